@@ -4,6 +4,9 @@ import io.emeraldpay.polkaj.ss58.SS58Type;
 import io.emeraldpay.polkaj.ss58.SS58;
 import io.emeraldpay.polkaj.ss58.SS58Codec;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -19,17 +22,37 @@ public class Address implements Comparable<Address> {
     private transient String encoded;
 
     public Address(SS58Type.Network network, byte[] pubkey) {
+        this(network, check(pubkey).clone(), true);
+    }
+
+    private Address(SS58Type.Network network, byte[] pubkey, boolean owned) {
         if (network == null) {
             throw new NullPointerException("Network is null");
         }
+        this.network = network;
+        this.pubkey = check(pubkey);
+    }
+
+    private static byte[] check(byte[] pubkey) {
         if (pubkey == null) {
             throw new NullPointerException("Pubkey is null");
         }
         if (pubkey.length != SIZE_BYTES) {
             throw new IllegalArgumentException("PubKey length should be 32 bytes long. Provided: " + pubkey.length);
         }
-        this.network = network;
-        this.pubkey = pubkey.clone();
+        return pubkey;
+    }
+
+    /**
+     * Create an address which takes ownership of the pubkey array instead of copying it. The caller must not modify
+     * the array after that, so it should be used only with a newly created array, ex. just decoded bytes.
+     *
+     * @param network target network
+     * @param pubkey 32 byte pubkey
+     * @return address which uses the array as is
+     */
+    public static Address wrap(SS58Type.Network network, byte[] pubkey) {
+        return new Address(network, pubkey, true);
     }
 
     /**
@@ -38,19 +61,46 @@ public class Address implements Comparable<Address> {
      * @return address
      */
     public static Address empty(SS58Type.Network network) {
-        return new Address(network, new byte[32]);
+        return wrap(network, new byte[SIZE_BYTES]);
     }
 
     public static Address from(String address) {
         SS58 decoded = SS58Codec.getInstance().decode(address);
         SS58Type.Network type = SS58Type.Network.from(decoded.getType().getValue());
-        return new Address(type, decoded.getValue());
+        return wrap(type, decoded.getValue());
     }
 
     public byte[] getPubkey() {
         return pubkey;
     }
 
+    /**
+     * @return read-only buffer over the pubkey, without copying it
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(pubkey).asReadOnlyBuffer();
+    }
+
+    /**
+     * Copy the pubkey into the target array
+     *
+     * @param target target array
+     * @param offset position in the target array to copy to
+     */
+    public void copyTo(byte[] target, int offset) {
+        System.arraycopy(pubkey, 0, target, offset, SIZE_BYTES);
+    }
+
+    /**
+     * Write the pubkey into the stream, without making a copy of it
+     *
+     * @param out target stream
+     * @throws IOException if failed to write
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(pubkey, 0, SIZE_BYTES);
+    }
+
     public SS58Type.Network getNetwork() {
         return network;
     }
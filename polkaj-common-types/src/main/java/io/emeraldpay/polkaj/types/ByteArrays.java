@@ -0,0 +1,25 @@
+package io.emeraldpay.polkaj.types;
+
+/**
+ * Operations on byte arrays which have faster implementations on newer JDKs. Java 9+ uses a separate implementation
+ * of the class from the multi-release JAR.
+ */
+final class ByteArrays {
+
+    private ByteArrays() {
+    }
+
+    /**
+     * Compare two arrays of the same length as signed bytes
+     *
+     * @return difference of the first mismatching bytes, or 0 if the arrays are equal
+     */
+    static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return a[i] - b[i];
+            }
+        }
+        return 0;
+    }
+}
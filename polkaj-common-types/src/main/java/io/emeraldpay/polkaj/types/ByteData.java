@@ -1,5 +1,8 @@
 package io.emeraldpay.polkaj.types;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 public class ByteData {
@@ -13,13 +16,43 @@ public class ByteData {
         this.value = value.clone();
     }
 
+    /**
+     * Constructor which takes ownership of the array instead of copying it
+     *
+     * @param value value, which must not be referenced by anything else
+     * @param owned marker for the owning constructor, ignored
+     */
+    protected ByteData(byte[] value, boolean owned) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        this.value = value;
+    }
+
+    /**
+     * Create an instance which takes ownership of the array instead of copying it. The caller must not modify
+     * the array after that, so it should be used only with a newly created array, ex. just decoded bytes.
+     *
+     * @param value value
+     * @return instance which uses the array as is
+     */
+    public static ByteData wrap(byte[] value) {
+        return new ByteData(value, true);
+    }
+
     public static ByteData from(String hex) {
-        byte[] value = FixedBytes.parseHex(hex);
-        return new ByteData(value);
+        return wrap(FixedBytes.parseHex(hex));
     }
 
     public static ByteData empty() {
-        return new ByteData(new byte[0]);
+        return wrap(new byte[0]);
+    }
+
+    /**
+     * @return length of the value in bytes
+     */
+    public int length() {
+        return value.length;
     }
 
     /**
@@ -30,16 +63,35 @@ public class ByteData {
         return value.clone();
     }
 
+    /**
+     * @return read-only buffer over the value, without copying it
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(value).asReadOnlyBuffer();
+    }
+
+    /**
+     * Copy the value into the target array
+     *
+     * @param target target array
+     * @param offset position in the target array to copy to
+     */
+    public void copyTo(byte[] target, int offset) {
+        System.arraycopy(value, 0, target, offset, value.length);
+    }
+
+    /**
+     * Write the value into the stream, without making a copy of it
+     *
+     * @param out target stream
+     * @throws IOException if failed to write
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(value, 0, value.length);
+    }
+
     public String toString() {
-        char[] hex = new char[value.length * 2 + 2];
-        hex[0] = '0';
-        hex[1] = 'x';
-        for (int i = 0; i < value.length; i++) {
-            byte b = value[i];
-            hex[2 + i * 2] = Character.forDigit((b & 0xf0) >> 4, 16);
-            hex[2 + i * 2 + 1] = Character.forDigit(b & 0x0f, 16);
-        }
-        return new String(hex);
+        return HexCodec.encode(value, true);
     }
 
     @Override
@@ -6,6 +6,22 @@ abstract public class FixedBytes extends ByteData {
 
     protected FixedBytes(byte[] value, int expectedSize) {
         super(value);
+        checkSize(value, expectedSize);
+    }
+
+    /**
+     * Constructor which takes ownership of the array instead of copying it
+     *
+     * @param value value, which must not be referenced by anything else
+     * @param expectedSize expected size of the value
+     * @param owned marker for the owning constructor, ignored
+     */
+    protected FixedBytes(byte[] value, int expectedSize, boolean owned) {
+        super(value, owned);
+        checkSize(value, expectedSize);
+    }
+
+    private static void checkSize(byte[] value, int expectedSize) {
         if (value.length != expectedSize) {
             throw new IllegalArgumentException("Value size must be " + expectedSize + "; received: " + value.length);
         }
@@ -22,21 +38,7 @@ abstract public class FixedBytes extends ByteData {
     }
 
     protected static byte[] parseHex(String hex) {
-        if (hex == null) {
-            throw new NullPointerException("Hex value is null");
-        }
-        if (hex.startsWith("0x")) {
-            hex = hex.substring(2);
-        }
-        int len = hex.length();
-        if (len % 2 != 0) {
-            throw new NumberFormatException("Not event number of digits provided");
-        }
-        byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = Integer.valueOf(hex.substring(i, i+2), 16).byteValue();
-        }
-        return data;
+        return HexCodec.decode(hex);
     }
 
     @Override
@@ -48,11 +50,6 @@ abstract public class FixedBytes extends ByteData {
         if (value.length != o.value.length) {
             throw new IllegalStateException("Different size " + value.length + " != " + o.value.length);
         }
-        for (int i = 0; i < value.length; i++) {
-            if (value[i] != o.value[i]) {
-                return value[i] - o.value[i];
-            }
-        }
-        return 0;
+        return ByteArrays.compare(value, o.value);
     }
 }
@@ -21,13 +21,30 @@ public class Hash256 extends FixedBytes implements Comparable<Hash256> {
         super(value, SIZE_BYTES);
     }
 
+    private Hash256(byte[] value, boolean owned) {
+        super(value, SIZE_BYTES, owned);
+    }
+
+    /**
+     * Create an instance which takes ownership of the array instead of copying it. The caller must not modify
+     * the array after that, so it should be used only with a newly created array, ex. just decoded bytes.
+     *
+     * @param value 32 byte value
+     * @return hash which uses the array as is
+     * @throws NullPointerException if value is null
+     * @throws IllegalArgumentException is size is not 32 bytes
+     */
+    public static Hash256 wrap(byte[] value) {
+        return new Hash256(value, true);
+    }
+
     /**
      * Creates an empty zeroed instance
      *
      * @return empty hash
      */
     public static Hash256 empty() {
-        return new Hash256(new byte[SIZE_BYTES]);
+        return wrap(new byte[SIZE_BYTES]);
     }
 
     /**
@@ -39,8 +56,7 @@ public class Hash256 extends FixedBytes implements Comparable<Hash256> {
      * @throws NumberFormatException if value has invalid format (non-hex characters, etc)
      */
     public static Hash256 from(String hex) {
-        byte[] parsed = parseHex(hex, SIZE_BYTES);
-        return new Hash256(parsed);
+        return wrap(parseHex(hex, SIZE_BYTES));
     }
 
     @Override
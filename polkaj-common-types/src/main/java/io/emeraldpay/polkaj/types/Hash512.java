@@ -21,13 +21,30 @@ public class Hash512 extends FixedBytes implements Comparable<Hash512> {
         super(value, SIZE_BYTES);
     }
 
+    private Hash512(byte[] value, boolean owned) {
+        super(value, SIZE_BYTES, owned);
+    }
+
+    /**
+     * Create an instance which takes ownership of the array instead of copying it. The caller must not modify
+     * the array after that, so it should be used only with a newly created array, ex. just decoded bytes.
+     *
+     * @param value 64 byte value
+     * @return hash which uses the array as is
+     * @throws NullPointerException if value is null
+     * @throws IllegalArgumentException is size is not 64 bytes
+     */
+    public static Hash512 wrap(byte[] value) {
+        return new Hash512(value, true);
+    }
+
     /**
      * Creates an empty zeroed instance
      *
      * @return empty hash
      */
     public static Hash512 empty() {
-        return new Hash512(new byte[SIZE_BYTES]);
+        return wrap(new byte[SIZE_BYTES]);
     }
 
     /**
@@ -39,8 +56,7 @@ public class Hash512 extends FixedBytes implements Comparable<Hash512> {
      * @throws NumberFormatException if value has invalid format (non-hex characters, etc)
      */
     public static Hash512 from(String hex) {
-        byte[] parsed = parseHex(hex, SIZE_BYTES);
-        return new Hash512(parsed);
+        return wrap(parseHex(hex, SIZE_BYTES));
     }
 
     @Override
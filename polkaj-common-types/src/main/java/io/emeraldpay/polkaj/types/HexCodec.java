@@ -0,0 +1,164 @@
+package io.emeraldpay.polkaj.types;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Encodes bytes to hex strings and decodes them back. Hex strings can have an optional <code>0x</code> prefix and
+ * both lower and upper case digits, encoded strings are always lower case.
+ */
+public final class HexCodec {
+
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            VALUES['a' + i] = (byte) (10 + i);
+            VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * Encode bytes to a lower case hex string
+     *
+     * @param value bytes to encode
+     * @param prefix if true the string starts with <code>0x</code>
+     * @return hex string
+     */
+    public static String encode(byte[] value, boolean prefix) {
+        return encode(value, 0, value.length, prefix);
+    }
+
+    /**
+     * Encode part of the bytes to a lower case hex string
+     *
+     * @param value bytes to encode
+     * @param offset start of the encoded part
+     * @param length length of the encoded part
+     * @param prefix if true the string starts with <code>0x</code>
+     * @return hex string
+     */
+    public static String encode(byte[] value, int offset, int length, boolean prefix) {
+        if (offset < 0 || length < 0 || offset > value.length - length) {
+            throw new IndexOutOfBoundsException("Data " + offset + ".." + (offset + length) + " is outside of " + value.length);
+        }
+        return HexEncoder.encode(value, offset, length, prefix);
+    }
+
+    /**
+     * Append part of the bytes as lower case hex digits, without a prefix
+     *
+     * @param target target to append to
+     * @param value bytes to encode
+     * @param offset start of the encoded part
+     * @param length length of the encoded part
+     * @throws IOException if the target failed to append
+     */
+    public static void appendHex(Appendable target, byte[] value, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > value.length - length) {
+            throw new IndexOutOfBoundsException("Data " + offset + ".." + (offset + length) + " is outside of " + value.length);
+        }
+        if (target instanceof StringBuilder) {
+            StringBuilder sb = (StringBuilder) target;
+            sb.ensureCapacity(sb.length() + length * 2);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            appendHex(target, value[i]);
+        }
+    }
+
+    /**
+     * Append a single byte as two lower case hex digits
+     *
+     * @param target target to append to
+     * @param value byte to encode, only the lower 8 bits are used
+     * @throws IOException if the target failed to append
+     */
+    public static void appendHex(Appendable target, int value) throws IOException {
+        target.append(HexEncoder.digit((value >>> 4) & 0x0f)).append(HexEncoder.digit(value & 0x0f));
+    }
+
+    /**
+     * Decode a hex string, with or without <code>0x</code> prefix
+     *
+     * @param hex hex string
+     * @return decoded bytes
+     * @throws NumberFormatException if the string is not a valid hex
+     */
+    public static byte[] decode(CharSequence hex) {
+        byte[] data = new byte[decodedLength(hex)];
+        decode(hex, data, 0);
+        return data;
+    }
+
+    /**
+     * Decode a hex string, with or without <code>0x</code> prefix, into the provided array
+     *
+     * @param hex hex string
+     * @param target array to decode into
+     * @param offset position in the target array to decode to
+     * @return amount of decoded bytes
+     * @throws NumberFormatException if the string is not a valid hex
+     * @throws IndexOutOfBoundsException if the decoded bytes don't fit into the target array
+     */
+    public static int decode(CharSequence hex, byte[] target, int offset) {
+        int len = decodedLength(hex);
+        if (offset < 0 || offset > target.length - len) {
+            throw new IndexOutOfBoundsException("Cannot decode " + len + " bytes at " + offset + " of " + target.length);
+        }
+        int pos = hasPrefix(hex) ? 2 : 0;
+        for (int i = offset; i < offset + len; i++) {
+            target[i] = (byte) ((digit(hex, pos) << 4) | digit(hex, pos + 1));
+            pos += 2;
+        }
+        return len;
+    }
+
+    /**
+     * @param hex hex string, with or without <code>0x</code> prefix
+     * @return amount of bytes encoded by the string
+     * @throws NumberFormatException if the string has an odd number of digits
+     */
+    public static int decodedLength(CharSequence hex) {
+        if (hex == null) {
+            throw new NullPointerException("Hex value is null");
+        }
+        int len = hex.length() - (hasPrefix(hex) ? 2 : 0);
+        if (len % 2 != 0) {
+            throw new NumberFormatException("Not event number of digits provided");
+        }
+        return len / 2;
+    }
+
+    /**
+     * @param hex hex string
+     * @return true if the string starts with <code>0x</code>
+     */
+    public static boolean hasPrefix(CharSequence hex) {
+        return hex.length() >= 2 && hex.charAt(0) == '0' && hex.charAt(1) == 'x';
+    }
+
+    /**
+     * Get value of a hex digit
+     *
+     * @param hex hex string
+     * @param pos position of the digit
+     * @return value of the digit, 0..15
+     * @throws NumberFormatException if the char is not a hex digit
+     */
+    public static int digit(CharSequence hex, int pos) {
+        char c = hex.charAt(pos);
+        int value = c < 128 ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new NumberFormatException("Invalid hex character '" + c + "' at " + pos);
+        }
+        return value;
+    }
+}
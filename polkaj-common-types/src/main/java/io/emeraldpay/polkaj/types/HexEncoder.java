@@ -0,0 +1,39 @@
+package io.emeraldpay.polkaj.types;
+
+/**
+ * Builds lower case hex strings for {@link HexCodec}. Java 9+ uses a separate implementation of the class from
+ * the multi-release JAR.
+ */
+final class HexEncoder {
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private HexEncoder() {
+    }
+
+    /**
+     * Encode part of the bytes, which is already checked to be inside the array
+     */
+    static String encode(byte[] value, int offset, int length, boolean prefix) {
+        int start = prefix ? 2 : 0;
+        char[] hex = new char[start + length * 2];
+        if (prefix) {
+            hex[0] = '0';
+            hex[1] = 'x';
+        }
+        for (int i = 0; i < length; i++) {
+            int b = value[offset + i] & 0xff;
+            hex[start + i * 2] = DIGITS[b >>> 4];
+            hex[start + i * 2 + 1] = DIGITS[b & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * @param value value of the digit, 0..15
+     * @return lower case hex digit
+     */
+    static char digit(int value) {
+        return DIGITS[value];
+    }
+}
@@ -0,0 +1,139 @@
+package io.emeraldpay.polkaj.types;
+
+import java.math.BigInteger;
+
+/**
+ * Unsigned 128 bit integer, stored as two <code>long</code> values. Used to keep balances and other u128 values
+ * without allocating a BigInteger, which can be created with {@link #toBigInteger()} only when it's actually needed.
+ */
+public final class UInt128 implements Comparable<UInt128> {
+
+    /**
+     * Length in bytes (16 byte)
+     */
+    public static final int SIZE_BYTES = 16;
+
+    public static final UInt128 ZERO = new UInt128(0, 0);
+    public static final UInt128 MAX = new UInt128(-1L, -1L);
+
+    private final long high;
+    private final long low;
+
+    /**
+     * @param high upper 64 bits, as unsigned value
+     * @param low lower 64 bits, as unsigned value
+     */
+    public UInt128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param value value
+     * @return UInt128 instance
+     * @throws IllegalArgumentException if value is negative
+     */
+    public static UInt128 valueOf(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported: " + value);
+        }
+        if (value == 0) {
+            return ZERO;
+        }
+        return new UInt128(0, value);
+    }
+
+    /**
+     * @param value value
+     * @return UInt128 instance
+     * @throws IllegalArgumentException if value is negative or larger than 2**128-1
+     */
+    public static UInt128 valueOf(BigInteger value) {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Negative values are not supported: " + value);
+        }
+        if (value.bitLength() > 128) {
+            throw new IllegalArgumentException("Value is to big for 128 bits. Has: " + value.bitLength() + " bits");
+        }
+        return new UInt128(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /**
+     * @return upper 64 bits
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * @return lower 64 bits
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @return true if the value is in 0..2**63-1 range, i.e. can be used as a Java long
+     */
+    public boolean isLong() {
+        return high == 0 && low >= 0;
+    }
+
+    /**
+     * @return value as a long
+     * @throws ArithmeticException if the value doesn't fit into long
+     * @see #isLong()
+     */
+    public long longValueExact() {
+        if (!isLong()) {
+            throw new ArithmeticException("Value doesn't fit into long: " + this);
+        }
+        return low;
+    }
+
+    public boolean isZero() {
+        return high == 0 && low == 0;
+    }
+
+    public BigInteger toBigInteger() {
+        if (isLong()) {
+            return BigInteger.valueOf(low);
+        }
+        byte[] value = new byte[SIZE_BYTES];
+        for (int i = 0; i < 8; i++) {
+            value[i] = (byte) (high >>> (56 - i * 8));
+            value[8 + i] = (byte) (low >>> (56 - i * 8));
+        }
+        return new BigInteger(1, value);
+    }
+
+    @Override
+    public int compareTo(UInt128 o) {
+        int result = Long.compareUnsigned(high, o.high);
+        if (result != 0) {
+            return result;
+        }
+        return Long.compareUnsigned(low, o.low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UInt128)) return false;
+        UInt128 that = (UInt128) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        if (high == 0) {
+            return Long.toUnsignedString(low);
+        }
+        return toBigInteger().toString();
+    }
+}
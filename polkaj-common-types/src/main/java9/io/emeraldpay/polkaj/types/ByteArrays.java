@@ -0,0 +1,25 @@
+package io.emeraldpay.polkaj.types;
+
+import java.util.Arrays;
+
+/**
+ * Java 9+ implementation, which finds the first mismatch with a vectorized comparison
+ */
+final class ByteArrays {
+
+    private ByteArrays() {
+    }
+
+    /**
+     * Compare two arrays of the same length as signed bytes
+     *
+     * @return difference of the first mismatching bytes, or 0 if the arrays are equal
+     */
+    static int compare(byte[] a, byte[] b) {
+        int i = Arrays.mismatch(a, b);
+        if (i < 0) {
+            return 0;
+        }
+        return a[i] - b[i];
+    }
+}
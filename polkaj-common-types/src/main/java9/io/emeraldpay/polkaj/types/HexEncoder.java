@@ -0,0 +1,41 @@
+package io.emeraldpay.polkaj.types;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Java 9+ implementation, which builds the string from Latin-1 bytes, i.e. the bytes are copied as is into
+ * a compact string without an intermediate <code>char[]</code>
+ */
+final class HexEncoder {
+
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    private HexEncoder() {
+    }
+
+    /**
+     * Encode part of the bytes, which is already checked to be inside the array
+     */
+    static String encode(byte[] value, int offset, int length, boolean prefix) {
+        int start = prefix ? 2 : 0;
+        byte[] hex = new byte[start + length * 2];
+        if (prefix) {
+            hex[0] = '0';
+            hex[1] = 'x';
+        }
+        for (int i = 0; i < length; i++) {
+            int b = value[offset + i] & 0xff;
+            hex[start + i * 2] = DIGITS[b >>> 4];
+            hex[start + i * 2 + 1] = DIGITS[b & 0x0f];
+        }
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param value value of the digit, 0..15
+     * @return lower case hex digit
+     */
+    static char digit(int value) {
+        return (char) DIGITS[value];
+    }
+}
@@ -177,4 +177,25 @@ class AddressSpec extends Specification {
         then:
         act.collect {it.toString()}  == strings
     }
+
+    def "Wraps pubkey without copying"() {
+        setup:
+        def pubkey = Hex.decodeHex('f8c2c616e5d5d805ae14f810da895ed9fe98511c201dc4d4719624a41fb9772c')
+        when:
+        def act = Address.wrap(SS58Type.Network.SUBSTRATE, pubkey)
+        then:
+        act.getPubkey().is(pubkey)
+        act == new Address(SS58Type.Network.SUBSTRATE, pubkey)
+    }
+
+    def "Copies pubkey to array"() {
+        setup:
+        def pubkey = Hex.decodeHex('f8c2c616e5d5d805ae14f810da895ed9fe98511c201dc4d4719624a41fb9772c')
+        def target = new byte[33]
+        when:
+        new Address(SS58Type.Network.SUBSTRATE, pubkey).copyTo(target, 1)
+        then:
+        Arrays.copyOfRange(target, 1, 33) == pubkey
+        new Address(SS58Type.Network.SUBSTRATE, pubkey).asByteBuffer().remaining() == 32
+    }
 }
@@ -80,4 +80,43 @@ class ByteDataSpec extends Specification {
         x != y
     }
 
+    def "Wraps array without copying"() {
+        setup:
+        byte[] value = [1, 2, 3]
+        when:
+        def act = ByteData.wrap(value)
+        value[0] = 5
+        then:
+        act.toString() == "0x050203"
+        act.length() == 3
+    }
+
+    def "Provides read-only view"() {
+        setup:
+        def value = ByteData.from("0x010203")
+        when:
+        def act = value.asByteBuffer()
+        then:
+        act.isReadOnly()
+        act.remaining() == 3
+        act.get(2) == (byte) 3
+    }
+
+    def "Copies to array"() {
+        setup:
+        def target = new byte[4]
+        when:
+        ByteData.from("0x0102").copyTo(target, 1)
+        then:
+        target == [0, 1, 2, 0] as byte[]
+    }
+
+    def "Writes to stream"() {
+        setup:
+        def out = new ByteArrayOutputStream()
+        when:
+        ByteData.from("0x0102").writeTo(out)
+        then:
+        out.toByteArray() == [1, 2] as byte[]
+    }
 }
@@ -189,4 +189,21 @@ class Hash256Spec extends Specification {
         then:
         hash1.hashCode() != hash2.hashCode()
     }
+
+    def "Wraps array without copying"() {
+        setup:
+        def value = new byte[32]
+        when:
+        def act = Hash256.wrap(value)
+        value[31] = 1
+        then:
+        act == Hash256.from("0x0000000000000000000000000000000000000000000000000000000000000001")
+    }
+
+    def "Fails to wrap array of invalid size"() {
+        when:
+        Hash256.wrap(new byte[31])
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -189,4 +189,11 @@ class Hash512Spec extends Specification {
         then:
         hash1.hashCode() != hash2.hashCode()
     }
+
+    def "Fails to wrap array of invalid size"() {
+        when:
+        Hash512.wrap(new byte[32])
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -0,0 +1,95 @@
+package io.emeraldpay.polkaj.types
+
+import spock.lang.Specification
+
+class HexCodecSpec extends Specification {
+
+    def "Encode"() {
+        expect:
+        HexCodec.encode(value as byte[], prefix) == hex
+        where:
+        value               | prefix | hex
+        []                  | true   | "0x"
+        []                  | false  | ""
+        [0, 1, 15, 16, 255] | true   | "0x00010f10ff"
+        [-128, 127]         | false  | "807f"
+    }
+
+    def "Encode part of array"() {
+        expect:
+        HexCodec.encode([1, 2, 3, 4] as byte[], 1, 2, false) == "0203"
+    }
+
+    def "Fails to encode outside of array"() {
+        when:
+        HexCodec.encode([1, 2] as byte[], 1, 2, false)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Decode"() {
+        expect:
+        HexCodec.decode(hex) == value as byte[]
+        where:
+        hex            | value
+        ""             | []
+        "0x"           | []
+        "0x00010f10ff" | [0, 1, 15, 16, -1]
+        "807F"         | [-128, 127]
+        "0xAbCd"       | [-85, -51]
+    }
+
+    def "Fails to decode invalid hex"() {
+        when:
+        HexCodec.decode(hex)
+        then:
+        thrown(NumberFormatException)
+        where:
+        hex << ["0x0", "123", "0xgg", "zz", "0x1\u00e9"]
+    }
+
+    def "Decodes into provided array"() {
+        setup:
+        def target = new byte[5]
+        when:
+        def act = HexCodec.decode("0x0102ff", target, 1)
+        then:
+        act == 3
+        target == [0, 1, 2, -1, 0] as byte[]
+    }
+
+    def "Fails to decode into too small array"() {
+        when:
+        HexCodec.decode("0x0102ff", new byte[3], 1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Calculates decoded length"() {
+        expect:
+        HexCodec.decodedLength(hex) == len
+        where:
+        hex        | len
+        ""         | 0
+        "0x"       | 0
+        "0x0102"   | 2
+        "010203"   | 3
+    }
+
+    def "Appends hex to existing content"() {
+        setup:
+        def sb = new StringBuilder("0x")
+        when:
+        HexCodec.appendHex(sb, [0, 1, 0x7f, -1, 0x10] as byte[], 1, 3)
+        HexCodec.appendHex(sb, 0xab)
+        then:
+        sb.toString() == "0x017fffab"
+    }
+
+    def "Fails to append outside of array"() {
+        when:
+        HexCodec.appendHex(new StringBuilder(), new byte[3], 2, 2)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
@@ -0,0 +1,58 @@
+package io.emeraldpay.polkaj.types
+
+import spock.lang.Specification
+
+class UInt128Spec extends Specification {
+
+    def "Converts to and from BigInteger"() {
+        expect:
+        UInt128.valueOf(new BigInteger(value)).toBigInteger().toString() == value
+        UInt128.valueOf(new BigInteger(value)).toString() == value
+
+        where:
+        value << [
+                "0",
+                "1",
+                "9223372036854775807",
+                "9223372036854775808",
+                "18446744073709551615",
+                "18446744073709551616",
+                "340282366920938463463374607431768211455"
+        ]
+    }
+
+    def "Fits into long"() {
+        expect:
+        UInt128.valueOf(100).isLong()
+        UInt128.valueOf(100).longValueExact() == 100
+        !new UInt128(0, -1).isLong()
+        !new UInt128(1, 0).isLong()
+    }
+
+    def "Error to get a large value as long"() {
+        when:
+        new UInt128(1, 0).longValueExact()
+        then:
+        thrown(ArithmeticException)
+    }
+
+    def "Compares as unsigned"() {
+        expect:
+        new UInt128(0, -1) > UInt128.valueOf(Long.MAX_VALUE)
+        new UInt128(1, 0) > new UInt128(0, -1)
+        UInt128.MAX > new UInt128(-2, -1)
+        UInt128.valueOf(5) == new UInt128(0, 5)
+    }
+
+    def "Error for invalid values"() {
+        when:
+        UInt128.valueOf(-1)
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        UInt128.valueOf(BigInteger.ONE.shiftLeft(128))
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
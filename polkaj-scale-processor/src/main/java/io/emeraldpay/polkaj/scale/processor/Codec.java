@@ -0,0 +1,69 @@
+package io.emeraldpay.polkaj.scale.processor;
+
+/**
+ * Encoding of a single value, i.e. of a field or of an element of a list
+ */
+class Codec {
+
+    enum Kind {
+        U8, U16, U32, U64, BOOL,
+        COMPACT_INT, COMPACT_LONG,
+        U128_BIG, COMPACT_BIG, U128, COMPACT_U128,
+        STRING, BYTES, HASH256,
+        ENUM, STRUCT, LIST
+    }
+
+    private final Kind kind;
+    private final String javaType;
+    private final boolean optional;
+    // type of the enum or the struct, element type of the list
+    private final String targetType;
+    private final Codec element;
+
+    Codec(Kind kind, String javaType, boolean optional, String targetType, Codec element) {
+        this.kind = kind;
+        this.javaType = javaType;
+        this.optional = optional;
+        this.targetType = targetType;
+        this.element = element;
+    }
+
+    /**
+     * @return kind of encoding
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return Java type of the value as it should be used in source code
+     */
+    String getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * @return true if the value is encoded as Option, with null as None
+     */
+    boolean isOptional() {
+        return optional;
+    }
+
+    /**
+     * @return qualified name of the enum type, or the package and name prefix of the generated struct codecs
+     */
+    String getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return encoding of list elements
+     */
+    Codec getElement() {
+        return element;
+    }
+
+    Codec withOptional(boolean optional) {
+        return new Codec(kind, javaType, optional, targetType, element);
+    }
+}
@@ -0,0 +1,20 @@
+package io.emeraldpay.polkaj.scale.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Invalid definition of a struct, reported as a compilation error on the element
+ */
+class ProcessingException extends Exception {
+
+    private final Element element;
+
+    ProcessingException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element getElement() {
+        return element;
+    }
+}
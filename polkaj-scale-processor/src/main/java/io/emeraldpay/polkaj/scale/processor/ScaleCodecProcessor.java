@@ -0,0 +1,304 @@
+package io.emeraldpay.polkaj.scale.processor;
+
+import io.emeraldpay.polkaj.scale.annotation.ScaleCompact;
+import io.emeraldpay.polkaj.scale.annotation.ScaleEnum;
+import io.emeraldpay.polkaj.scale.annotation.ScaleField;
+import io.emeraldpay.polkaj.scale.annotation.ScaleOptional;
+import io.emeraldpay.polkaj.scale.annotation.ScaleStruct;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates SCALE readers and writers for classes annotated with {@link ScaleStruct}. The field annotations are claimed
+ * by the processor as well, and using them outside of a <code>@ScaleStruct</code> class is an error.
+ *
+ * @see SourceGenerator
+ */
+@SupportedAnnotationTypes({
+        "io.emeraldpay.polkaj.scale.annotation.ScaleStruct",
+        "io.emeraldpay.polkaj.scale.annotation.ScaleField",
+        "io.emeraldpay.polkaj.scale.annotation.ScaleCompact",
+        "io.emeraldpay.polkaj.scale.annotation.ScaleOptional",
+        "io.emeraldpay.polkaj.scale.annotation.ScaleEnum"
+})
+public class ScaleCodecProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element: roundEnv.getElementsAnnotatedWith(ScaleStruct.class)) {
+            try {
+                if (element.getKind() != ElementKind.CLASS) {
+                    throw new ProcessingException("@ScaleStruct can be used only with a class", element);
+                }
+                TypeElement type = (TypeElement) element;
+                List<StructField> fields = readFields(type);
+                String packageName = getPackage(type).getQualifiedName().toString();
+                String name = getCodecName(type);
+                SourceGenerator generator = new SourceGenerator(packageName, type.getQualifiedName().toString(), fields);
+                write(packageName, name + "ScaleReader", generator.generateReader(name + "ScaleReader"), type);
+                write(packageName, name + "ScaleWriter", generator.generateWriter(name + "ScaleWriter"), type);
+            } catch (ProcessingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write SCALE codec: " + e.getMessage(), element);
+            }
+        }
+        for (TypeElement annotation: annotations) {
+            if (annotation.getQualifiedName().contentEquals(ScaleStruct.class.getName())) {
+                continue;
+            }
+            for (Element element: roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element owner = element.getEnclosingElement();
+                if (owner == null || owner.getAnnotation(ScaleStruct.class) == null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "@" + annotation.getSimpleName() + " can be used only in a class annotated with @ScaleStruct", element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void write(String packageName, String name, String source, TypeElement origin) throws IOException {
+        String fullName = packageName.isEmpty() ? name : packageName + "." + name;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(fullName, origin);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private PackageElement getPackage(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type);
+    }
+
+    /**
+     * @return name prefix of the generated classes, which includes the enclosing classes for a nested class
+     */
+    static String getCodecName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element parent = type.getEnclosingElement();
+        while (parent.getKind().isClass() || parent.getKind().isInterface()) {
+            name.insert(0, parent.getSimpleName() + "_");
+            parent = parent.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private List<StructField> readFields(TypeElement type) throws ProcessingException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new ProcessingException("Generic classes are not supported by @ScaleStruct", type);
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new ProcessingException("@ScaleStruct class cannot be abstract", type);
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new ProcessingException("Nested @ScaleStruct class must be static", type);
+        }
+        if (!isAccessible(type)) {
+            throw new ProcessingException("@ScaleStruct class must be accessible from its package", type);
+        }
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor: ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasConstructor = true;
+            }
+        }
+        if (!hasConstructor) {
+            throw new ProcessingException("@ScaleStruct class must have a no-arg constructor", type);
+        }
+
+        List<StructField> fields = new ArrayList<>();
+        Map<Integer, VariableElement> orders = new HashMap<>();
+        for (VariableElement field: ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            ScaleField annotation = field.getAnnotation(ScaleField.class);
+            if (annotation == null) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                throw new ProcessingException("@ScaleField cannot be static", field);
+            }
+            VariableElement existing = orders.put(annotation.value(), field);
+            if (existing != null) {
+                throw new ProcessingException("Field " + existing.getSimpleName() + " has the same order " + annotation.value(), field);
+            }
+            Codec codec = getCodec(field.asType(), field, true);
+            if (field.getAnnotation(ScaleOptional.class) != null) {
+                if (field.asType().getKind().isPrimitive()) {
+                    throw new ProcessingException("@ScaleOptional cannot be used with a primitive type", field);
+                }
+                codec = codec.withOptional(true);
+            }
+            fields.add(createField(type, field, annotation.value(), codec));
+        }
+        fields.sort(Comparator.comparingInt(StructField::getOrder));
+        return fields;
+    }
+
+    private StructField createField(TypeElement type, VariableElement field, int order, Codec codec) throws ProcessingException {
+        String name = field.getSimpleName().toString();
+        boolean isPrivate = field.getModifiers().contains(Modifier.PRIVATE);
+        if (!isPrivate && !field.getModifiers().contains(Modifier.FINAL)) {
+            return new StructField(name, order, codec, "value." + name, null);
+        }
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String getter = null;
+        String setter = null;
+        for (ExecutableElement method: ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty()
+                    && (methodName.equals("get" + suffix) || methodName.equals("is" + suffix))
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                getter = methodName;
+            } else if (method.getParameters().size() == 1
+                    && methodName.equals("set" + suffix)
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                setter = methodName;
+            }
+        }
+        if (isPrivate && getter == null) {
+            throw new ProcessingException("Private @ScaleField must have a getter", field);
+        }
+        if (setter == null) {
+            throw new ProcessingException("@ScaleField must be non-final and non-private, or have a setter", field);
+        }
+        return new StructField(name, order, codec, getter == null ? "value." + name : "value." + getter + "()", setter);
+    }
+
+    private Codec getCodec(TypeMirror type, VariableElement field, boolean topLevel) throws ProcessingException {
+        boolean compact = field.getAnnotation(ScaleCompact.class) != null;
+        boolean isEnum = field.getAnnotation(ScaleEnum.class) != null;
+        String javaType = type.toString();
+        Codec.Kind kind = null;
+        String targetType = null;
+        Codec element = null;
+        switch (type.getKind()) {
+            case BYTE:
+                kind = Codec.Kind.U8;
+                break;
+            case SHORT:
+                kind = Codec.Kind.U16;
+                break;
+            case INT:
+                kind = compact ? Codec.Kind.COMPACT_INT : Codec.Kind.U32;
+                break;
+            case LONG:
+                kind = compact ? Codec.Kind.COMPACT_LONG : Codec.Kind.U64;
+                break;
+            case BOOLEAN:
+                kind = Codec.Kind.BOOL;
+                break;
+            case ARRAY:
+                if (type.toString().equals("byte[]")) {
+                    kind = Codec.Kind.BYTES;
+                }
+                break;
+            case DECLARED:
+                TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+                String name = typeElement.getQualifiedName().toString();
+                switch (name) {
+                    case "java.lang.Byte":
+                        kind = Codec.Kind.U8;
+                        break;
+                    case "java.lang.Short":
+                        kind = Codec.Kind.U16;
+                        break;
+                    case "java.lang.Integer":
+                        kind = compact ? Codec.Kind.COMPACT_INT : Codec.Kind.U32;
+                        break;
+                    case "java.lang.Long":
+                        kind = compact ? Codec.Kind.COMPACT_LONG : Codec.Kind.U64;
+                        break;
+                    case "java.lang.Boolean":
+                        kind = Codec.Kind.BOOL;
+                        break;
+                    case "java.math.BigInteger":
+                        kind = compact ? Codec.Kind.COMPACT_BIG : Codec.Kind.U128_BIG;
+                        break;
+                    case "io.emeraldpay.polkaj.types.UInt128":
+                        kind = compact ? Codec.Kind.COMPACT_U128 : Codec.Kind.U128;
+                        break;
+                    case "java.lang.String":
+                        kind = Codec.Kind.STRING;
+                        break;
+                    case "io.emeraldpay.polkaj.types.Hash256":
+                        kind = Codec.Kind.HASH256;
+                        break;
+                    case "java.util.List":
+                        List<? extends TypeMirror> args = ((DeclaredType) type).getTypeArguments();
+                        if (!topLevel || args.size() != 1) {
+                            throw new ProcessingException("Only a List of a specified element type is supported: " + type, field);
+                        }
+                        element = getCodec(args.get(0), field, false);
+                        // the annotations were applied to the elements
+                        return new Codec(Codec.Kind.LIST, javaType, false, null, element);
+                    default:
+                        if (typeElement.getKind() == ElementKind.ENUM) {
+                            if (!isEnum) {
+                                throw new ProcessingException("Enum type must be annotated with @ScaleEnum: " + type, field);
+                            }
+                            kind = Codec.Kind.ENUM;
+                            targetType = name;
+                        } else if (typeElement.getAnnotation(ScaleStruct.class) != null) {
+                            kind = Codec.Kind.STRUCT;
+                            String packageName = getPackage(typeElement).getQualifiedName().toString();
+                            targetType = (packageName.isEmpty() ? "" : packageName + ".") + getCodecName(typeElement);
+                        }
+                }
+                break;
+            default:
+        }
+        if (kind == null) {
+            throw new ProcessingException("Type is not supported by SCALE codec: " + type, field);
+        }
+        if (compact && !(kind == Codec.Kind.COMPACT_INT || kind == Codec.Kind.COMPACT_LONG
+                || kind == Codec.Kind.COMPACT_BIG || kind == Codec.Kind.COMPACT_U128)) {
+            throw new ProcessingException("@ScaleCompact cannot be used with " + type, field);
+        }
+        if (isEnum && kind != Codec.Kind.ENUM) {
+            throw new ProcessingException("@ScaleEnum cannot be used with " + type, field);
+        }
+        return new Codec(kind, javaType, false, targetType, null);
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+}
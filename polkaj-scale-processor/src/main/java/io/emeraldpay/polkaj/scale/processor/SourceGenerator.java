@@ -0,0 +1,299 @@
+package io.emeraldpay.polkaj.scale.processor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates source code of a reader and a writer for a struct. The generated code reads and writes each field directly,
+ * with the codec instances kept in static final fields of their actual types, so all calls are monomorphic.
+ */
+class SourceGenerator {
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final String type;
+    private final List<StructField> fields;
+
+    // static fields of the generated class, name -> declaration
+    private final Map<String, String> constants = new LinkedHashMap<>();
+    private int counter = 0;
+
+    SourceGenerator(String packageName, String type, List<StructField> fields) {
+        this.packageName = packageName;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    String generateReader(String name) {
+        constants.clear();
+        counter = 0;
+        StringBuilder body = new StringBuilder();
+        String indent = INDENT + INDENT;
+        body.append(indent).append(type).append(" value = new ").append(type).append("();\n");
+        for (StructField field: fields) {
+            String var = "f_" + field.getName();
+            read(body, field.getCodec(), var, indent);
+            if (field.getSetter() == null) {
+                body.append(indent).append("value.").append(field.getName()).append(" = ").append(var).append(";\n");
+            } else {
+                body.append(indent).append("value.").append(field.getSetter()).append("(").append(var).append(");\n");
+            }
+        }
+        body.append(indent).append("return value;\n");
+
+        StringBuilder source = header(name, "ScaleReader", "reader");
+        appendConstants(source);
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(type).append(" read(ScaleCodecReader rdr) {\n")
+                .append(body)
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    String generateWriter(String name) {
+        constants.clear();
+        counter = 0;
+        StringBuilder body = new StringBuilder();
+        String indent = INDENT + INDENT;
+        for (StructField field: fields) {
+            String var = "f_" + field.getName();
+            body.append(indent).append(field.getCodec().getJavaType()).append(" ").append(var)
+                    .append(" = ").append(field.getGetter()).append(";\n");
+            write(body, field.getCodec(), var, indent);
+        }
+
+        StringBuilder source = header(name, "ScaleWriter", "writer");
+        appendConstants(source);
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public void write(ScaleCodecWriter wrt, ").append(type).append(" value) throws java.io.IOException {\n")
+                .append(body)
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private StringBuilder header(String name, String base, String title) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.emeraldpay.polkaj.scale.ScaleCodecReader;\n")
+                .append("import io.emeraldpay.polkaj.scale.ScaleCodecWriter;\n")
+                .append("import io.emeraldpay.polkaj.scale.").append(base).append(";\n\n")
+                .append("/**\n")
+                .append(" * SCALE ").append(title).append(" for {@link ").append(type).append("}.\n")
+                .append(" * Generated by polkaj-scale-processor from the annotations of the class, do not edit.\n")
+                .append(" */\n")
+                .append("public class ").append(name).append(" implements ").append(base).append("<").append(type).append("> {\n\n");
+        return source;
+    }
+
+    private void appendConstants(StringBuilder source) {
+        for (String declaration: constants.values()) {
+            source.append(INDENT).append(declaration).append("\n");
+        }
+        if (!constants.isEmpty()) {
+            source.append("\n");
+        }
+    }
+
+    private String constant(String name, String type, String init) {
+        constants.putIfAbsent(name, "private static final " + type + " " + name + " = " + init + ";");
+        return name;
+    }
+
+    private String instance(String name, String className) {
+        return constant(name, className, "new " + className + "()");
+    }
+
+    private void read(StringBuilder out, Codec codec, String var, String indent) {
+        String javaType = codec.getJavaType();
+        if (codec.isOptional()) {
+            if (codec.getKind() == Codec.Kind.BOOL) {
+                out.append(indent).append(javaType).append(" ").append(var)
+                        .append(" = ScaleCodecReader.BOOL_OPTIONAL.read(rdr).orElse(null);\n");
+                return;
+            }
+            String present = var + "_v";
+            out.append(indent).append(javaType).append(" ").append(var).append(";\n")
+                    .append(indent).append("if (rdr.readBoolean()) {\n");
+            read(out, codec.withOptional(false), present, indent + INDENT);
+            out.append(indent).append(INDENT).append(var).append(" = ").append(present).append(";\n")
+                    .append(indent).append("} else {\n")
+                    .append(indent).append(INDENT).append(var).append(" = null;\n")
+                    .append(indent).append("}\n");
+            return;
+        }
+        String expr;
+        switch (codec.getKind()) {
+            case U8:
+                expr = "rdr.readByte()";
+                break;
+            case U16:
+                expr = "(short) ScaleCodecReader.UINT16.readInt(rdr)";
+                break;
+            case U32:
+                expr = "ScaleCodecReader.INT32.readInt(rdr)";
+                break;
+            case U64:
+                expr = instance("ULONG64", "io.emeraldpay.polkaj.scale.reader.ULong64Reader") + ".readLong(rdr)";
+                break;
+            case BOOL:
+                expr = "rdr.readBoolean()";
+                break;
+            case COMPACT_INT:
+                expr = "ScaleCodecReader.COMPACT_UINT.readInt(rdr)";
+                break;
+            case COMPACT_LONG:
+                expr = "ScaleCodecReader.COMPACT_ULONG.readLong(rdr)";
+                break;
+            case U128_BIG:
+                expr = "ScaleCodecReader.UINT128.read(rdr)";
+                break;
+            case COMPACT_BIG:
+                expr = "ScaleCodecReader.COMPACT_BIGINT.read(rdr)";
+                break;
+            case U128:
+                expr = instance("UINT128_VALUE", "io.emeraldpay.polkaj.scale.reader.UInt128ValueReader") + ".read(rdr)";
+                break;
+            case COMPACT_U128:
+                expr = instance("COMPACT_UINT128", "io.emeraldpay.polkaj.scale.reader.CompactUInt128Reader") + ".read(rdr)";
+                break;
+            case STRING:
+                expr = "rdr.readString()";
+                break;
+            case BYTES:
+                expr = "rdr.readByteArray()";
+                break;
+            case HASH256:
+                expr = "io.emeraldpay.polkaj.types.Hash256.wrap(rdr.readUint256())";
+                break;
+            case ENUM: {
+                String values = constant(enumConstant(codec), codec.getTargetType() + "[]", codec.getTargetType() + ".values()");
+                String index = var + "_i";
+                out.append(indent).append("int ").append(index).append(" = rdr.readUByte();\n")
+                        .append(indent).append("if (").append(index).append(" >= ").append(values).append(".length) {\n")
+                        .append(indent).append(INDENT).append("throw new IllegalStateException(\"Unknown enum value: \" + ").append(index).append(");\n")
+                        .append(indent).append("}\n");
+                expr = values + "[" + index + "]";
+                break;
+            }
+            case STRUCT:
+                expr = instance(structConstant(codec, "READER"), codec.getTargetType() + "ScaleReader") + ".read(rdr)";
+                break;
+            case LIST: {
+                int id = counter++;
+                String size = "size_" + id;
+                String index = "i_" + id;
+                String item = "item_" + id;
+                out.append(indent).append("int ").append(size).append(" = rdr.readCompactInt();\n")
+                        .append(indent).append("rdr.checkElements(").append(size).append(");\n")
+                        .append(indent).append(javaType).append(" ").append(var)
+                        .append(" = new java.util.ArrayList<>(Math.min(").append(size).append(", 1024));\n")
+                        .append(indent).append("for (int ").append(index).append(" = 0; ").append(index).append(" < ").append(size)
+                        .append("; ").append(index).append("++) {\n");
+                read(out, codec.getElement(), item, indent + INDENT);
+                out.append(indent).append(INDENT).append(var).append(".add(").append(item).append(");\n")
+                        .append(indent).append("}\n");
+                return;
+            }
+            default:
+                throw new IllegalStateException("Unsupported codec: " + codec.getKind());
+        }
+        out.append(indent).append(javaType).append(" ").append(var).append(" = ").append(expr).append(";\n");
+    }
+
+    private void write(StringBuilder out, Codec codec, String var, String indent) {
+        if (codec.isOptional()) {
+            if (codec.getKind() == Codec.Kind.BOOL) {
+                out.append(indent).append("ScaleCodecWriter.BOOL_OPT.write(wrt, java.util.Optional.ofNullable(").append(var).append("));\n");
+                return;
+            }
+            out.append(indent).append("if (").append(var).append(" == null) {\n")
+                    .append(indent).append(INDENT).append("wrt.directWrite(0);\n")
+                    .append(indent).append("} else {\n")
+                    .append(indent).append(INDENT).append("wrt.directWrite(1);\n");
+            write(out, codec.withOptional(false), var, indent + INDENT);
+            out.append(indent).append("}\n");
+            return;
+        }
+        String stmt;
+        switch (codec.getKind()) {
+            case U8:
+                stmt = "wrt.directWrite(" + var + ");";
+                break;
+            case U16:
+                stmt = "ScaleCodecWriter.UINT16.writeInt(wrt, " + var + " & 0xffff);";
+                break;
+            case U32:
+                stmt = "ScaleCodecWriter.ULONG32.writeLong(wrt, " + var + " & 0xffffffffL);";
+                break;
+            case U64:
+                stmt = instance("ULONG64", "io.emeraldpay.polkaj.scale.writer.ULong64Writer") + ".writeLong(wrt, " + var + ");";
+                break;
+            case BOOL:
+                stmt = "wrt.directWrite(" + var + " ? 1 : 0);";
+                break;
+            case COMPACT_INT:
+                stmt = "ScaleCodecWriter.COMPACT_UINT.writeInt(wrt, " + var + ");";
+                break;
+            case COMPACT_LONG:
+                stmt = "ScaleCodecWriter.COMPACT_ULONG.writeLong(wrt, " + var + ");";
+                break;
+            case U128_BIG:
+                stmt = "ScaleCodecWriter.UINT128.write(wrt, " + var + ");";
+                break;
+            case COMPACT_BIG:
+                stmt = "ScaleCodecWriter.COMPACT_BIGINT.write(wrt, " + var + ");";
+                break;
+            case U128:
+                stmt = instance("UINT128_VALUE", "io.emeraldpay.polkaj.scale.writer.UInt128ValueWriter") + ".write(wrt, " + var + ");";
+                break;
+            case COMPACT_U128:
+                stmt = instance("COMPACT_UINT128", "io.emeraldpay.polkaj.scale.writer.CompactUInt128Writer") + ".write(wrt, " + var + ");";
+                break;
+            case STRING:
+                stmt = "wrt.writeAsList(" + var + ".getBytes(java.nio.charset.StandardCharsets.UTF_8));";
+                break;
+            case BYTES:
+                stmt = "wrt.writeAsList(" + var + ");";
+                break;
+            case HASH256:
+                stmt = "wrt.writeBytes(" + var + ");";
+                break;
+            case ENUM:
+                stmt = "wrt.directWrite(" + var + ".ordinal());";
+                break;
+            case STRUCT:
+                stmt = instance(structConstant(codec, "WRITER"), codec.getTargetType() + "ScaleWriter") + ".write(wrt, " + var + ");";
+                break;
+            case LIST: {
+                String item = "item_" + counter++;
+                out.append(indent).append("wrt.writeCompact(").append(var).append(".size());\n")
+                        .append(indent).append("for (").append(codec.getElement().getJavaType()).append(" ").append(item)
+                        .append(" : ").append(var).append(") {\n");
+                write(out, codec.getElement(), item, indent + INDENT);
+                out.append(indent).append("}\n");
+                return;
+            }
+            default:
+                throw new IllegalStateException("Unsupported codec: " + codec.getKind());
+        }
+        out.append(indent).append(stmt).append("\n");
+    }
+
+    private static String enumConstant(Codec codec) {
+        return constantName(codec.getTargetType()) + "_VALUES";
+    }
+
+    private static String structConstant(Codec codec, String suffix) {
+        return constantName(codec.getTargetType()) + "_" + suffix;
+    }
+
+    private static String constantName(String qualifiedName) {
+        return qualifiedName.replace('.', '_').replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+}
@@ -0,0 +1,48 @@
+package io.emeraldpay.polkaj.scale.processor;
+
+/**
+ * Encoded field of a struct, with the source code to access it
+ */
+class StructField {
+
+    private final String name;
+    private final int order;
+    private final Codec codec;
+    private final String getter;
+    private final String setter;
+
+    /**
+     * @param name field name
+     * @param order position in the encoded struct
+     * @param codec encoding of the field
+     * @param getter expression to get the value from <code>value</code>
+     * @param setter method to set the value to <code>value</code>, or null if it's set directly
+     */
+    StructField(String name, int order, Codec codec, String getter, String setter) {
+        this.name = name;
+        this.order = order;
+        this.codec = codec;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getOrder() {
+        return order;
+    }
+
+    Codec getCodec() {
+        return codec;
+    }
+
+    String getGetter() {
+        return getter;
+    }
+
+    String getSetter() {
+        return setter;
+    }
+}
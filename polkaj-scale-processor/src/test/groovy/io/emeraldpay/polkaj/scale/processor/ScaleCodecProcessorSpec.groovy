@@ -0,0 +1,118 @@
+package io.emeraldpay.polkaj.scale.processor
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.scale.ScaleExtract
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ScaleCodecProcessorSpec extends Specification {
+
+    Path dir = Files.createTempDirectory("scale-processor")
+
+    def compile(String name, String source) {
+        Path src = dir.resolve(name + ".java")
+        Files.write(src, source.getBytes("UTF-8"))
+        def compiler = ToolProvider.getSystemJavaCompiler()
+        def diagnostics = new DiagnosticCollector<JavaFileObject>()
+        def files = compiler.getStandardFileManager(null, null, null)
+        def task = compiler.getTask(null, files, diagnostics,
+                ["-d", dir.toString(), "-classpath", System.getProperty("java.class.path")],
+                null, files.getJavaFileObjects(src.toFile()))
+        task.setProcessors([new ScaleCodecProcessor()])
+        def ok = task.call()
+        return [ok, diagnostics.diagnostics.collect { it.getMessage(Locale.ENGLISH) }]
+    }
+
+    def load(String name) {
+        return new URLClassLoader([dir.toUri().toURL()] as URL[], getClass().classLoader).loadClass(name)
+    }
+
+    def "Generates reader and writer"() {
+        setup:
+        def result = compile("Transfer", '''
+            import io.emeraldpay.polkaj.scale.annotation.*;
+            import java.math.BigInteger;
+            import java.util.List;
+
+            @ScaleStruct
+            public class Transfer {
+                public enum Kind { A, B }
+                @ScaleField(1) @ScaleCompact public BigInteger amount;
+                @ScaleField(0) public short module;
+                @ScaleField(2) @ScaleOptional public String memo;
+                @ScaleField(3) @ScaleEnum public List<Kind> kinds;
+                @ScaleField(4) @ScaleCompact private int nonce;
+                public int getNonce() { return nonce; }
+                public void setNonce(int nonce) { this.nonce = nonce; }
+            }
+        ''')
+        def reader = load("TransferScaleReader").newInstance()
+        def writer = load("TransferScaleWriter").newInstance()
+        when:
+        def value = new ScaleCodecReader(Hex.decodeHex("0605" + "02093d00" + "010c616263" + "080100" + "04")).read(reader)
+        then:
+        result[0]
+        value.module == 0x0506
+        value.amount == 1000000
+        value.memo == "abc"
+        value.kinds*.name() == ["B", "A"]
+        value.nonce == 1
+        when:
+        value.memo = null
+        def act = ScaleExtract.write(writer, value)
+        then:
+        Hex.encodeHexString(act) == "0605" + "02093d00" + "00" + "080100" + "04"
+    }
+
+    def "Fails on unsupported type"() {
+        when:
+        def result = compile("Invalid", '''
+            import io.emeraldpay.polkaj.scale.annotation.*;
+
+            @ScaleStruct
+            public class Invalid {
+                @ScaleField(0) public double value;
+            }
+        ''')
+        then:
+        !result[0]
+        result[1].any { it.contains("Type is not supported by SCALE codec: double") }
+    }
+
+    def "Fails on duplicate order"() {
+        when:
+        def result = compile("Duplicate", '''
+            import io.emeraldpay.polkaj.scale.annotation.*;
+
+            @ScaleStruct
+            public class Duplicate {
+                @ScaleField(0) public int a;
+                @ScaleField(0) public int b;
+            }
+        ''')
+        then:
+        !result[0]
+        result[1].any { it.contains("has the same order") }
+    }
+
+    def "Fails on field annotations outside of struct"() {
+        when:
+        def result = compile("NotStruct", '''
+            import io.emeraldpay.polkaj.scale.annotation.*;
+
+            public class NotStruct {
+                @ScaleField(0) @ScaleCompact public int a;
+            }
+        ''')
+        then:
+        !result[0]
+        result[1].any { it.contains("@ScaleField can be used only in a class annotated with @ScaleStruct") }
+        result[1].any { it.contains("@ScaleCompact can be used only in a class annotated with @ScaleStruct") }
+    }
+}
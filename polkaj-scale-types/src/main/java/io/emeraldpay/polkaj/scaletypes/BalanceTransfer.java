@@ -1,6 +1,7 @@
 package io.emeraldpay.polkaj.scaletypes;
 
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
 import io.emeraldpay.polkaj.scale.UnionValue;
 import io.emeraldpay.polkaj.types.Address;
 
@@ -8,6 +9,8 @@ import java.io.IOException;
 
 public abstract class BalanceTransfer extends ExtrinsicCall{
 
+    private static final MultiAddressWriter DESTINATION_WRITER = new MultiAddressWriter();
+
     protected UnionValue<MultiAddress> destination;
 
     public BalanceTransfer(int callIndex, Address destination){
@@ -22,9 +25,31 @@ public abstract class BalanceTransfer extends ExtrinsicCall{
     public void write(ScaleCodecWriter wrt) throws IOException {
         wrt.writeByte(getModuleIndex());
         wrt.writeByte(getCallIndex());
-        wrt.write(new MultiAddressWriter(), destination);
+        wrt.write(DESTINATION_WRITER, destination);
         internalWrite(wrt);
     }
 
     public abstract void internalWrite(ScaleCodecWriter wrt) throws IOException;
+
+    /**
+     * @return size of the encoded call, or {@link ScaleWriter#UNKNOWN_SIZE} if it's unknown
+     * @see ScaleWriter#encodedSize(Object)
+     */
+    public int encodedSize() {
+        int internal = internalEncodedSize();
+        if (internal < 0) {
+            return ScaleWriter.UNKNOWN_SIZE;
+        }
+        return 2 + DESTINATION_WRITER.encodedSize(destination) + internal;
+    }
+
+    /**
+     * Size of the data written by {@link #internalWrite(ScaleCodecWriter)}. Should be overridden together with it,
+     * the default implementation tells the size is unknown.
+     *
+     * @return size in bytes, or {@link ScaleWriter#UNKNOWN_SIZE} if it's unknown
+     */
+    protected int internalEncodedSize() {
+        return ScaleWriter.UNKNOWN_SIZE;
+    }
 }
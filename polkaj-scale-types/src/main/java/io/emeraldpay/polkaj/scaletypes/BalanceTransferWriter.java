@@ -10,4 +10,9 @@ public class BalanceTransferWriter implements ScaleWriter<BalanceTransfer> {
     public void write(ScaleCodecWriter wrt, BalanceTransfer value) throws IOException {
         value.write(wrt);
     }
+
+    @Override
+    public int encodedSize(BalanceTransfer value) {
+        return value.encodedSize();
+    }
 }
@@ -14,4 +14,9 @@ public class EraWriter implements ScaleWriter<Integer> {
             wrt.writeByte(0x00);
         }
     }
+
+    @Override
+    public int encodedSize(Integer value) {
+        return value != 0 ? 2 : 1;
+    }
 }
@@ -1,32 +1,84 @@
 package io.emeraldpay.polkaj.scaletypes;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigInteger;
 
+import io.emeraldpay.polkaj.scale.CompositeBytes;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.types.Hash512;
 
 public class ExtrinsicWriter<CALL extends ExtrinsicCall> implements ScaleWriter<Extrinsic<CALL>> {
 
     private static final TransactionInfoWriter TX_WRITER = new TransactionInfoWriter();
 
-    private final ScaleWriter<CALL> callScaleWriter;
+    private final BodyWriter<CALL> bodyWriter;
 
     public ExtrinsicWriter(ScaleWriter<CALL> callScaleWriter) {
-        this.callScaleWriter = callScaleWriter;
+        this.bodyWriter = new BodyWriter<>(callScaleWriter);
     }
 
     @Override
     public void write(ScaleCodecWriter wrt, Extrinsic<CALL> value) throws IOException {
-        ByteArrayOutputStream buf = new ByteArrayOutputStream();
-        ScaleCodecWriter internal = new ScaleCodecWriter(buf);
-        int type = Extrinsic.TYPE_BIT_SIGNED + (Extrinsic.TYPE_UNMASK_VERSION & 4);
-        internal.writeByte(type);
-        internal.write(TX_WRITER, value.getTx());
-        internal.write(callScaleWriter, value.getCall());
         // the extrinsic itself is written as array, so the body of it can be processed individually as bytes
-        wrt.writeAsList(buf.toByteArray());
+        wrt.writeAsList(bodyWriter, value);
+    }
+
+    @Override
+    public int encodedSize(Extrinsic<CALL> value) {
+        int size = bodyWriter.encodedSize(value);
+        if (size < 0) {
+            return UNKNOWN_SIZE;
+        }
+        return ScaleCodecWriter.COMPACT_UINT.encodedSize(size) + size;
+    }
+
+    /**
+     * Compose a signed extrinsic from an already encoded call, ex. to resubmit it with a new signature. The call bytes
+     * are referenced by the result instead of being copied, and only the transaction info is encoded.
+     *
+     * @param tx transaction info
+     * @param call encoded call
+     * @return encoded extrinsic, including the length prefix
+     */
+    public static CompositeBytes compose(Extrinsic.TransactionInfo tx, byte[] call) {
+        CompositeBytes body = CompositeBytes.newBuilder()
+                .addByte(Extrinsic.TYPE_BIT_SIGNED + (Extrinsic.TYPE_UNMASK_VERSION & 4))
+                .add(TX_WRITER, tx)
+                .add(call)
+                .build();
+        return CompositeBytes.newBuilder()
+                .addAsList(body)
+                .build();
+    }
+
+    /**
+     * Writes the extrinsic without the length prefix
+     */
+    static class BodyWriter<CALL extends ExtrinsicCall> implements ScaleWriter<Extrinsic<CALL>> {
+
+        private final ScaleWriter<CALL> callScaleWriter;
+
+        BodyWriter(ScaleWriter<CALL> callScaleWriter) {
+            this.callScaleWriter = callScaleWriter;
+        }
+
+        @Override
+        public void write(ScaleCodecWriter wrt, Extrinsic<CALL> value) throws IOException {
+            int type = Extrinsic.TYPE_BIT_SIGNED + (Extrinsic.TYPE_UNMASK_VERSION & 4);
+            wrt.writeByte(type);
+            wrt.write(TX_WRITER, value.getTx());
+            wrt.write(callScaleWriter, value.getCall());
+        }
+
+        @Override
+        public int encodedSize(Extrinsic<CALL> value) {
+            int tx = TX_WRITER.encodedSize(value.getTx());
+            int call = callScaleWriter.encodedSize(value.getCall());
+            if (tx < 0 || call < 0) {
+                return UNKNOWN_SIZE;
+            }
+            return 1 + tx + call;
+        }
     }
 
     static class TransactionInfoWriter implements ScaleWriter<Extrinsic.TransactionInfo> {
@@ -39,14 +91,27 @@ public class ExtrinsicWriter<CALL extends ExtrinsicCall> implements ScaleWriter<
             wrt.write(SENDER_WRITER, value.getSender());
             writeSignature(wrt, value);
             wrt.write(ERA_WRITER, value.getEra());
-            wrt.write(ScaleCodecWriter.COMPACT_BIGINT, BigInteger.valueOf(value.getNonce()));
+            wrt.writeLong(ScaleCodecWriter.COMPACT_ULONG, value.getNonce());
             wrt.write(ScaleCodecWriter.COMPACT_BIGINT, value.getTip().getValue());
         }
 
+        @Override
+        public int encodedSize(Extrinsic.TransactionInfo value) {
+            int sender = SENDER_WRITER.encodedSize(value.getSender());
+            if (sender < 0) {
+                return UNKNOWN_SIZE;
+            }
+            return sender
+                    + 1 + Hash512.SIZE_BYTES
+                    + ERA_WRITER.encodedSize(value.getEra())
+                    + ScaleCodecWriter.COMPACT_ULONG.encodedSize(value.getNonce())
+                    + ScaleCodecWriter.COMPACT_BIGINT.encodedSize(value.getTip().getValue());
+        }
+
         private void writeSignature(ScaleCodecWriter wrt, Extrinsic.TransactionInfo value) throws IOException {
             Extrinsic.Signature signature = value.getSignature();
             wrt.writeByte(signature.getType().getCode());
-            wrt.writeByteArray(signature.getValue().getBytes());
+            wrt.writeBytes(signature.getValue());
         }
     }
 }
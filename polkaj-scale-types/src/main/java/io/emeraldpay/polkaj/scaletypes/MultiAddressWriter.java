@@ -20,11 +20,21 @@ public class MultiAddressWriter implements ScaleWriter<UnionValue<MultiAddress>>
         wrt.write(WRITER, value);
     }
 
+    @Override
+    public int encodedSize(UnionValue<MultiAddress> value) {
+        return WRITER.encodedSize(value);
+    }
+
     static class AccountIDWriter implements ScaleWriter<MultiAddress> {
         @Override
         public void write(ScaleCodecWriter wrt, MultiAddress value) throws IOException {
             MultiAddress.AccountID accountID = (MultiAddress.AccountID) value;
             wrt.writeUint256(accountID.getAddress().getPubkey());
         }
+
+        @Override
+        public int encodedSize(MultiAddress value) {
+            return 32;
+        }
     }
 }
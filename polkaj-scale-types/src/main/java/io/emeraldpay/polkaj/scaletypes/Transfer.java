@@ -29,4 +29,9 @@ public class Transfer extends BalanceTransfer {
     public void internalWrite(ScaleCodecWriter wrt) throws IOException {
         wrt.write(ScaleCodecWriter.COMPACT_BIGINT, balance.getValue());
     }
+
+    @Override
+    protected int internalEncodedSize() {
+        return ScaleCodecWriter.COMPACT_BIGINT.encodedSize(balance.getValue());
+    }
 }
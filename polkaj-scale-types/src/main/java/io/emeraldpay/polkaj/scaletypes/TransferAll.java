@@ -19,4 +19,9 @@ public class TransferAll extends BalanceTransfer{
         wrt.write(ScaleCodecWriter.BOOL, keepAlive);
     }
 
+    @Override
+    protected int internalEncodedSize() {
+        return 1;
+    }
+
 }
@@ -0,0 +1,215 @@
+package io.emeraldpay.polkaj.scale;
+
+import io.emeraldpay.polkaj.ss58.SS58Type;
+import io.emeraldpay.polkaj.types.Address;
+import io.emeraldpay.polkaj.types.ByteData;
+import io.emeraldpay.polkaj.types.Hash256;
+import io.emeraldpay.polkaj.types.Hash512;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A read-only view of a part of the source bytes, returned by the reader instead of a copy of those bytes. Can be
+ * compared and hashed as is, and converted to an actual value (a byte array, Hash256, Address, etc) only when it's needed.
+ * <br>
+ * The slice references the source of the reader, so the source must not be modified while the slice is in use.
+ *
+ * @see ScaleCodecReader#readByteSlice(int)
+ */
+public final class ByteSlice {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Create a view of the specified part of the source
+     *
+     * @param source source bytes
+     * @param offset start of the slice in the source
+     * @param length length of the slice
+     * @throws IndexOutOfBoundsException if the slice is outside of the source
+     */
+    public ByteSlice(byte[] source, int offset, int length) {
+        if (source == null) {
+            throw new NullPointerException("Source is null");
+        }
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Slice " + offset + ".." + (offset + length) + " is outside of " + source.length);
+        }
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create a view of the whole array
+     *
+     * @param source source bytes
+     * @return slice
+     */
+    public static ByteSlice of(byte[] source) {
+        return new ByteSlice(source, 0, source.length);
+    }
+
+    public static ByteSlice empty() {
+        return new ByteSlice(EMPTY, 0, 0);
+    }
+
+    /**
+     * @return length of the slice in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param index index of a byte in the slice
+     * @return byte value
+     */
+    public byte get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Cannot read " + index + " of " + length);
+        }
+        return source[offset + index];
+    }
+
+    /**
+     * Copy the bytes into the target array
+     *
+     * @param target target array
+     * @param targetOffset position in the target array to copy to
+     */
+    public void copyTo(byte[] target, int targetOffset) {
+        System.arraycopy(source, offset, target, targetOffset, length);
+    }
+
+    /**
+     * @return read-only little-endian buffer over the bytes of the slice, without copying them
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(source, offset, length).slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @return buffer over the bytes of the slice, which keeps access to the source array
+     */
+    ByteBuffer buffer() {
+        return ByteBuffer.wrap(source, offset, length).slice();
+    }
+
+    /**
+     * @return a copy of the bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(source, offset, offset + length);
+    }
+
+    public ByteData toByteData() {
+        return ByteData.wrap(toByteArray());
+    }
+
+    /**
+     * @return slice as a hash
+     * @throws IllegalArgumentException if slice is not 32 bytes
+     */
+    public Hash256 toHash256() {
+        return Hash256.wrap(toByteArray());
+    }
+
+    /**
+     * @return slice as a hash
+     * @throws IllegalArgumentException if slice is not 64 bytes
+     */
+    public Hash512 toHash512() {
+        return Hash512.wrap(toByteArray());
+    }
+
+    /**
+     * @param network network of the address
+     * @return slice as a pubkey of the address
+     * @throws IllegalArgumentException if slice is not 32 bytes
+     */
+    public Address toAddress(SS58Type.Network network) {
+        return Address.wrap(network, toByteArray());
+    }
+
+    /**
+     * @return slice decoded as a UTF-8 string
+     */
+    public String toUtf8String() {
+        if (isAscii()) {
+            // same result as UTF-8 for ASCII, but decoded by a plain copy
+            return new String(source, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(source, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return true if all bytes are 7-bit ASCII characters
+     */
+    public boolean isAscii() {
+        for (int i = offset; i < offset + length; i++) {
+            if (source[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare with the byte array without making a copy
+     *
+     * @param value value to compare to
+     * @return true if the slice has the same bytes as the value
+     */
+    public boolean contentEquals(byte[] value) {
+        if (value.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source[offset + i] != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ByteSlice)) return false;
+        ByteSlice that = (ByteSlice) o;
+        if (length != that.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source[offset + i] != that.source[that.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return hash code, which is the same as {@link Arrays#hashCode(byte[])} of the bytes (and so of an equal {@link ByteData})
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + source[i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toByteData().toString();
+    }
+}
@@ -0,0 +1,323 @@
+package io.emeraldpay.polkaj.scale;
+
+import io.emeraldpay.polkaj.types.ByteData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encoded data composed of a sequence of segments, which reference already encoded bytes (ex. a call, a signer or a
+ * signature of an extrinsic) instead of copying them into a single array. Small values added with the builder are
+ * encoded together into a shared segment.
+ * <br>
+ * The data is written as a single unit with {@link ScaleCodecWriter#writeBytes(CompositeBytes)}, or directly into
+ * a channel with {@link #writeTo(WritableByteChannel)}, which uses a gathering write if the channel supports it.
+ * <br>
+ * The segments reference the original data, so it must not be modified while the composite is in use.
+ */
+public final class CompositeBytes {
+
+    private static final CompositeBytes EMPTY = new CompositeBytes(new ByteBuffer[0], 0);
+
+    private final ByteBuffer[] segments;
+    private final int length;
+
+    private CompositeBytes(ByteBuffer[] segments, int length) {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static CompositeBytes empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return total length of the data in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return number of segments
+     */
+    public int segmentsCount() {
+        return segments.length;
+    }
+
+    /**
+     * @return read-only little-endian buffers over the segments, each one positioned at the start of its segment
+     */
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] result = new ByteBuffer[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            result[i] = segments[i].asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return result;
+    }
+
+    /**
+     * Write all segments into the channel. If the channel is a {@link GatheringByteChannel} the segments are
+     * written with a single gathering write, otherwise one by one.
+     *
+     * @param channel target channel
+     * @throws IOException if failed to write
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer[] buffers = toByteBuffers();
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            long remaining = length;
+            int first = 0;
+            while (remaining > 0) {
+                remaining -= gathering.write(buffers, first, buffers.length - first);
+                while (first < buffers.length && !buffers[first].hasRemaining()) {
+                    first++;
+                }
+            }
+            return;
+        }
+        for (ByteBuffer buffer: buffers) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Write all segments into the stream. Segments backed by an array are written without copying.
+     *
+     * @param out target stream
+     * @throws IOException if failed to write
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] chunk = null;
+        for (ByteBuffer segment: segments) {
+            if (segment.hasArray()) {
+                out.write(segment.array(), segment.arrayOffset() + segment.position(), segment.remaining());
+                continue;
+            }
+            if (chunk == null) {
+                chunk = new byte[Math.min(length, 8192)];
+            }
+            ByteBuffer copy = segment.duplicate();
+            while (copy.hasRemaining()) {
+                int len = Math.min(chunk.length, copy.remaining());
+                copy.get(chunk, 0, len);
+                out.write(chunk, 0, len);
+            }
+        }
+    }
+
+    /**
+     * @return a copy of all the data as a single array
+     */
+    public byte[] toByteArray() {
+        byte[] result = new byte[length];
+        int pos = 0;
+        for (ByteBuffer segment: segments) {
+            int len = segment.remaining();
+            segment.duplicate().get(result, pos, len);
+            pos += len;
+        }
+        return result;
+    }
+
+    public ByteData toByteData() {
+        return ByteData.wrap(toByteArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompositeBytes)) return false;
+        CompositeBytes that = (CompositeBytes) o;
+        return length == that.length && Arrays.equals(toByteArray(), that.toByteArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return toByteData().toString();
+    }
+
+    public static final class Builder {
+
+        private final List<ByteBuffer> segments = new ArrayList<>();
+        private long length = 0;
+
+        // small values encoded since the last referenced segment
+        private final ScaleCodecArrayWriter encoded = new ScaleCodecArrayWriter(64);
+
+        private Builder() {
+        }
+
+        /**
+         * Add a reference to the bytes, without copying them
+         *
+         * @param value encoded bytes
+         * @return builder
+         */
+        public Builder add(byte[] value) {
+            return add(value, 0, value.length);
+        }
+
+        /**
+         * Add a reference to a part of the array, without copying it
+         *
+         * @param value array with encoded bytes
+         * @param offset start of the data in the array
+         * @param len length of the data
+         * @return builder
+         */
+        public Builder add(byte[] value, int offset, int len) {
+            if (offset < 0 || len < 0 || offset > value.length - len) {
+                throw new IndexOutOfBoundsException("Data " + offset + ".." + (offset + len) + " is outside of " + value.length);
+            }
+            return addSegment(ByteBuffer.wrap(value, offset, len));
+        }
+
+        /**
+         * Add a reference to the slice, without copying it
+         *
+         * @param value encoded bytes
+         * @return builder
+         */
+        public Builder add(ByteSlice value) {
+            return addSegment(value.buffer());
+        }
+
+        /**
+         * Add a reference to the remaining bytes of the buffer, without copying them. The position of the buffer
+         * is not changed.
+         *
+         * @param value buffer with encoded bytes
+         * @return builder
+         */
+        public Builder add(ByteBuffer value) {
+            return addSegment(value.slice());
+        }
+
+        /**
+         * Add all segments of another composite
+         *
+         * @param value composite data
+         * @return builder
+         */
+        public Builder add(CompositeBytes value) {
+            for (ByteBuffer segment: value.segments) {
+                addSegment(segment);
+            }
+            return this;
+        }
+
+        /**
+         * Add the bytes prefixed with their compact length, i.e. as a SCALE byte array
+         *
+         * @param value encoded bytes
+         * @return builder
+         */
+        public Builder addAsList(byte[] value) {
+            writeCompact(value.length);
+            return add(value);
+        }
+
+        /**
+         * Add the composite data prefixed with its compact length, i.e. as a SCALE byte array
+         *
+         * @param value composite data
+         * @return builder
+         */
+        public Builder addAsList(CompositeBytes value) {
+            writeCompact(value.length());
+            return add(value);
+        }
+
+        /**
+         * Encode the value and add it. Values added one after another are encoded into the same segment.
+         *
+         * @param writer writer for the value
+         * @param value value to encode
+         * @param <T> type of the value
+         * @return builder
+         */
+        public <T> Builder add(ScaleWriter<T> writer, T value) {
+            try {
+                encoded.write(writer, value);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to encode value", e);
+            }
+            return this;
+        }
+
+        /**
+         * Add a single byte
+         *
+         * @param value byte to add
+         * @return builder
+         */
+        public Builder addByte(int value) {
+            encoded.directWrite(value);
+            return this;
+        }
+
+        /**
+         * Encode and add a compact integer
+         *
+         * @param value value to encode
+         * @return builder
+         */
+        public Builder addCompact(int value) {
+            writeCompact(value);
+            return this;
+        }
+
+        public CompositeBytes build() {
+            closeEncoded();
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Data is too large: " + length);
+            }
+            return new CompositeBytes(segments.toArray(new ByteBuffer[0]), (int) length);
+        }
+
+        private void writeCompact(int value) {
+            try {
+                encoded.writeCompact(value);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to encode value", e);
+            }
+        }
+
+        private Builder addSegment(ByteBuffer segment) {
+            closeEncoded();
+            if (segment.hasRemaining()) {
+                segments.add(segment.slice());
+                length += segment.remaining();
+            }
+            return this;
+        }
+
+        private void closeEncoded() {
+            if (encoded.size() > 0) {
+                segments.add(ByteBuffer.wrap(encoded.toByteArray()));
+                length += encoded.size();
+                encoded.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * SCALE codec reader for a value which is always encoded with the same number of bytes. Such a value can be skipped
+ * without reading it, and a list of such values can be skipped at once.
+ *
+ * @param <T> type
+ */
+public interface FixedSizeReader<T> extends ScaleReader<T> {
+
+    /**
+     * @return size of the encoded value in bytes
+     */
+    int getSize();
+
+    @Override
+    default void skip(ScaleCodecReader rdr) {
+        rdr.skip(getSize());
+    }
+}
@@ -0,0 +1,486 @@
+package io.emeraldpay.polkaj.scale;
+
+import io.emeraldpay.polkaj.scale.reader.UnsupportedReader;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Non-blocking decoder for data which arrives in fragments, ex. from a websocket subscription. Each fragment is passed to
+ * {@link #feed(byte[])}, which returns either a decoded value or tells how many more bytes are required at least.
+ * <br>
+ * The decoder doesn't try to decode anything until that amount of bytes is available.
+ * <br>
+ * A next attempt resumes where the previous one stopped. The decoder keeps the values returned by the nested readers
+ * called through {@link ScaleCodecReader#read(ScaleReader)}, ex. fields of a struct, and replays them on a next attempt
+ * instead of decoding them again. A {@link io.emeraldpay.polkaj.scale.reader.ListReader} keeps its progress and
+ * continues after the already decoded elements (see {@link ScaleCodecReader#keepProgress(ScaleReader, Object)}).
+ * So only the path to the incomplete value is executed again and each element is decoded once, which makes the
+ * total cost linear in the size of the value. A reader which decodes nested values itself, ex. a list of structs
+ * in its own loop, is still correct but goes through those values again on each attempt. The readers must be
+ * deterministic, i.e. call the same nested readers for the same data, and must not modify values returned by
+ * the nested readers.
+ * <br>
+ * A decoder created with {@link #ofList(ScaleReader)} also drops the data of the already decoded elements from its
+ * buffer.
+ * <br>
+ * If the data contains more than one value, the rest of data is kept for the next value, which can be read with
+ * {@link #poll()}. The decoder is not thread-safe, and since it reuses its internal buffer, it must not be used with
+ * readers which return views of the source such as {@link ByteSlice}.
+ *
+ * @param <T> type of the value
+ */
+public class IncrementalDecoder<T> {
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final ScaleReader<T> reader;
+
+    private byte[] buffer = new byte[INITIAL_SIZE];
+    private final ResumingReader rdr = new ResumingReader(buffer);
+
+    private int start = 0;
+    private int limit = 0;
+    // amount of bytes required to make a next attempt to decode
+    private int required = 0;
+    // amount of bytes already processed by the current attempt
+    private int committed = 0;
+
+    public IncrementalDecoder(ScaleReader<T> reader) {
+        if (reader == null) {
+            throw new NullPointerException("ScaleReader is null");
+        }
+        this.reader = reader;
+    }
+
+    /**
+     * Create a decoder for a list, which keeps the decoded elements between the fragments
+     *
+     * @param itemReader reader for the list element
+     * @param <T> type of the list element
+     * @return decoder for the list
+     */
+    public static <T> IncrementalDecoder<List<T>> ofList(ScaleReader<T> itemReader) {
+        return new ListDecoder<>(itemReader);
+    }
+
+    /**
+     * Set limits on the data allocated when decoding a value. The limits apply to the whole value, i.e. the bytes and
+     * elements allocated by the previous attempts to decode it are counted by the next attempt. The maximum amount of
+     * bytes also limits the data buffered for a value, so the decoder fails instead of waiting for a value which would
+     * exceed it.
+     *
+     * @param limits limits to use
+     * @see ScaleCodecReader#setLimits(ScaleLimits)
+     */
+    public void setLimits(ScaleLimits limits) {
+        if (limits == null) {
+            throw new NullPointerException("Limits cannot be null");
+        }
+        rdr.setLimits(limits);
+    }
+
+    /**
+     * Add a fragment of data and try to decode the value
+     *
+     * @param chunk fragment of data
+     * @return result of decoding
+     */
+    public Result<T> feed(byte[] chunk) {
+        return feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Add a fragment of data and try to decode the value
+     *
+     * @param chunk array with the fragment
+     * @param offset start of the fragment in the array
+     * @param length length of the fragment
+     * @return result of decoding
+     */
+    public Result<T> feed(byte[] chunk, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(chunk, offset, buffer, limit, length);
+        limit += length;
+        return poll();
+    }
+
+    /**
+     * Add all remaining bytes of the buffer as a fragment of data and try to decode the value
+     *
+     * @param chunk fragment of data
+     * @return result of decoding
+     */
+    public Result<T> feed(ByteBuffer chunk) {
+        int length = chunk.remaining();
+        ensureCapacity(length);
+        chunk.get(buffer, limit, length);
+        limit += length;
+        return poll();
+    }
+
+    /**
+     * Try to decode a value from already provided data. Useful to read a next value when a fragment contains
+     * more than one value.
+     *
+     * @return result of decoding
+     * @throws ScaleLimitException if the value exceeds the limits, in this case the decoder is reset
+     */
+    public Result<T> poll() {
+        int available = limit - start;
+        if (available == 0 && required == 0) {
+            return Result.incomplete(1);
+        }
+        if (available < required) {
+            return Result.incomplete(required - available);
+        }
+        rdr.begin(buffer, start, available);
+        committed = 0;
+        try {
+            T value = decode(rdr);
+            start += rdr.getPosition();
+            required = 0;
+            rdr.clear();
+            return Result.complete(value);
+        } catch (ScaleUnderflowException e) {
+            start += committed;
+            rdr.drop(committed);
+            long needed = (long) (available - committed) + e.getMissing();
+            long maxBytes = rdr.getLimits().getMaxBytes();
+            if (needed > maxBytes || needed > Integer.MAX_VALUE) {
+                reset();
+                throw new ScaleLimitException("Value requires at least " + needed + " bytes to decode, but limit is " + maxBytes);
+            }
+            required = (int) needed;
+            return Result.incomplete(e.getMissing());
+        } catch (ScaleLimitException e) {
+            reset();
+            throw e;
+        }
+    }
+
+    /**
+     * @return amount of bytes provided but not decoded yet
+     */
+    public int available() {
+        return limit - start;
+    }
+
+    /**
+     * Drop all the provided data and the current state of decoding
+     */
+    public void reset() {
+        start = 0;
+        limit = 0;
+        required = 0;
+        committed = 0;
+        rdr.clear();
+        resetState();
+    }
+
+    /**
+     * Decode the value. If the value cannot be decoded because of the lack of data, the method is called again when
+     * more data is provided, starting from the last {@link #commit(ScaleCodecReader)} position. The values read
+     * through {@link ScaleCodecReader#read(ScaleReader)} after that position are replayed by the next attempt.
+     *
+     * @param rdr reader with the available data
+     * @return decoded value
+     * @throws ScaleUnderflowException if not enough data
+     */
+    protected T decode(ScaleCodecReader rdr) {
+        return rdr.read(reader);
+    }
+
+    /**
+     * Mark the data read so far as processed, so the next attempt continues from the current position of the reader.
+     * Must be called only when the decoder keeps the state of already processed data.
+     *
+     * @param rdr reader passed to {@link #decode(ScaleCodecReader)}
+     */
+    protected void commit(ScaleCodecReader rdr) {
+        committed = rdr.getPosition();
+        this.rdr.commit();
+    }
+
+    /**
+     * Reset the state kept between the attempts to decode the value
+     */
+    protected void resetState() {
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.length - limit >= length) {
+            return;
+        }
+        int used = limit - start;
+        if (buffer.length - used >= length) {
+            // enough space if already decoded data is dropped
+            System.arraycopy(buffer, start, buffer, 0, used);
+        } else {
+            byte[] copy = new byte[Math.max(buffer.length * 2, used + length)];
+            System.arraycopy(buffer, start, copy, 0, used);
+            buffer = copy;
+        }
+        start = 0;
+        limit = used;
+    }
+
+    /**
+     * Reader for the attempts to decode a value, which keeps the values read by the nested readers between the attempts
+     * and replays them on a next attempt. The recorded reads form a tree of steps, where a completed step keeps only its
+     * value, and an incomplete one keeps its completed nested steps and the progress kept by its reader.
+     */
+    static class ResumingReader extends ScaleCodecReader {
+
+        private final Step root = new Step(null, 0);
+        private Step current = root;
+        // amount of data of the value dropped by commits, positions of the steps are relative to the start of the value
+        private long base = 0;
+
+        ResumingReader(byte[] source) {
+            super(source);
+        }
+
+        /**
+         * Start a next attempt with the data of the value after the last commit
+         */
+        void begin(byte[] source, int offset, int length) {
+            reset(source, offset, length);
+            setUsage(root.usedBytes, root.usedElements);
+            root.cursor = 0;
+            current = root;
+        }
+
+        /**
+         * Drop the steps read so far, which are processed by the decoder
+         */
+        void commit() {
+            root.dropChildren();
+            root.usedBytes = getUsedBytes();
+            root.usedElements = getUsedElements();
+        }
+
+        void drop(int length) {
+            base += length;
+        }
+
+        /**
+         * Drop all the steps, i.e. start a new value
+         */
+        void clear() {
+            root.dropChildren();
+            root.progress = null;
+            root.usedBytes = 0;
+            root.usedElements = 0;
+            current = root;
+            base = 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T read(ScaleReader<T> scaleReader) {
+            if (scaleReader == null) {
+                throw new NullPointerException("ItemReader cannot be null");
+            }
+            Step parent = current;
+            long pos = base + getPosition();
+            Step step = parent.next(scaleReader.getClass(), pos);
+            if (step.complete) {
+                skip((int) (step.end - pos));
+                setUsage(step.usedBytes, step.usedElements);
+                return (T) step.value;
+            }
+            current = step;
+            try {
+                T value = scaleReader.read(this);
+                step.complete(value, base + getPosition(), getUsedBytes(), getUsedElements());
+                return value;
+            } finally {
+                current = parent;
+            }
+        }
+
+        @Override
+        public boolean keepsProgress() {
+            return true;
+        }
+
+        @Override
+        public void keepProgress(ScaleReader<?> owner, Object progress) {
+            Step step = current;
+            if (step.type != owner.getClass()) {
+                return;
+            }
+            step.dropChildren();
+            step.progress = progress;
+            step.progressEnd = base + getPosition();
+            step.usedBytes = getUsedBytes();
+            step.usedElements = getUsedElements();
+        }
+
+        @Override
+        public Object resumeProgress(ScaleReader<?> owner) {
+            Step step = current;
+            if (step.progress == null || step.type != owner.getClass()) {
+                return null;
+            }
+            skip((int) (step.progressEnd - (base + getPosition())));
+            setUsage(step.usedBytes, step.usedElements);
+            return step.progress;
+        }
+    }
+
+    private static class Step {
+        private final Class<?> type;
+        private final long start;
+
+        // completed nested steps, and an incomplete one at the end
+        private List<Step> children;
+        private int cursor;
+        private Object progress;
+        private long progressEnd;
+
+        private boolean complete;
+        private Object value;
+        private long end;
+
+        // usage of the limits at the end of a completed step, or at the kept progress
+        private long usedBytes;
+        private long usedElements;
+
+        Step(Class<?> type, long start) {
+            this.type = type;
+            this.start = start;
+        }
+
+        /**
+         * Get the step for the next nested read, which is either recorded by a previous attempt or a new one
+         */
+        Step next(Class<?> type, long pos) {
+            if (children == null) {
+                children = new ArrayList<>(4);
+            }
+            if (cursor < children.size()) {
+                Step step = children.get(cursor);
+                if (step.type == type && step.start == pos) {
+                    cursor++;
+                    step.cursor = 0;
+                    return step;
+                }
+                // the reader took another path than on the previous attempt, the steps recorded after it are not valid
+                children.subList(cursor, children.size()).clear();
+            }
+            Step step = new Step(type, pos);
+            children.add(step);
+            cursor++;
+            return step;
+        }
+
+        void complete(Object value, long end, long usedBytes, long usedElements) {
+            this.complete = true;
+            this.value = value;
+            this.end = end;
+            this.usedBytes = usedBytes;
+            this.usedElements = usedElements;
+            this.children = null;
+            this.progress = null;
+        }
+
+        void dropChildren() {
+            if (children != null) {
+                children.clear();
+            }
+            cursor = 0;
+        }
+    }
+
+    /**
+     * Result of decoding, which is either a complete value or the amount of bytes missing to decode it
+     *
+     * @param <T> type of the value
+     */
+    public static class Result<T> {
+        private final boolean complete;
+        private final T value;
+        private final int missing;
+
+        private Result(boolean complete, T value, int missing) {
+            this.complete = complete;
+            this.value = value;
+            this.missing = missing;
+        }
+
+        static <T> Result<T> complete(T value) {
+            return new Result<>(true, value, 0);
+        }
+
+        static <T> Result<T> incomplete(int missing) {
+            return new Result<>(false, null, missing);
+        }
+
+        /**
+         * @return true if the value is decoded
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * @return decoded value
+         * @throws IllegalStateException if value is not complete
+         */
+        public T getValue() {
+            if (!complete) {
+                throw new IllegalStateException("Value is not complete. Missing " + missing + " bytes");
+            }
+            return value;
+        }
+
+        /**
+         * @return minimal amount of bytes required to make a next attempt to decode the value, or 0 if it's complete
+         */
+        public int getMissing() {
+            return missing;
+        }
+    }
+
+    static class ListDecoder<T> extends IncrementalDecoder<List<T>> {
+
+        private final ScaleReader<T> itemReader;
+
+        private int size = -1;
+        private List<T> items;
+
+        ListDecoder(ScaleReader<T> itemReader) {
+            super(new UnsupportedReader<>("List is decoded by the decoder"));
+            if (itemReader == null) {
+                throw new NullPointerException("ScaleReader is null");
+            }
+            this.itemReader = itemReader;
+        }
+
+        @Override
+        protected List<T> decode(ScaleCodecReader rdr) {
+            if (size < 0) {
+                size = rdr.readCompactInt();
+                rdr.checkElements(size);
+                items = new ArrayList<>(Math.min(size, INITIAL_SIZE));
+                commit(rdr);
+            }
+            while (items.size() < size) {
+                items.add(rdr.read(itemReader));
+                commit(rdr);
+            }
+            List<T> result = items;
+            resetState();
+            return result;
+        }
+
+        @Override
+        protected void resetState() {
+            size = -1;
+            items = null;
+        }
+    }
+}
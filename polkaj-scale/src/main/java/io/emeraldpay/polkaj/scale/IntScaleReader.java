@@ -0,0 +1,22 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * SCALE codec reader for a value that fits into Java <code>int</code>, which allows reading it without boxing.
+ *
+ * @see ScaleCodecReader#readInt(IntScaleReader)
+ */
+public interface IntScaleReader extends ScaleReader<Integer> {
+
+    /**
+     * Reads value from specified reader. The reader must be positioned on the beginning of the value
+     *
+     * @param rdr reader with the encoded data
+     * @return read value
+     */
+    int readInt(ScaleCodecReader rdr);
+
+    @Override
+    default Integer read(ScaleCodecReader rdr) {
+        return readInt(rdr);
+    }
+}
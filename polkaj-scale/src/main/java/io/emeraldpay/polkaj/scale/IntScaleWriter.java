@@ -0,0 +1,34 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.io.IOException;
+
+/**
+ * SCALE codec writer for a Java <code>int</code> value, which allows writing it without boxing.
+ *
+ * @see ScaleCodecWriter#writeInt(IntScaleWriter, int)
+ */
+public interface IntScaleWriter extends ScaleWriter<Integer> {
+
+    void writeInt(ScaleCodecWriter wrt, int value) throws IOException;
+
+    @Override
+    default void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+        writeInt(wrt, value);
+    }
+
+    /**
+     * Calculate the size of the encoded value without boxing it
+     *
+     * @param value value to encode
+     * @return size in bytes, or {@link #UNKNOWN_SIZE} if the writer doesn't support it
+     * @see ScaleWriter#encodedSize(Object)
+     */
+    default int encodedSize(int value) {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    default int encodedSize(Integer value) {
+        return encodedSize(value.intValue());
+    }
+}
@@ -0,0 +1,40 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * Reads and writes little-endian multi-byte values in a byte array. Java 9+ uses a separate implementation of the class from
+ * the multi-release JAR.
+ */
+final class LittleEndian {
+
+    private LittleEndian() {
+    }
+
+    static int getInt(byte[] source, int pos) {
+        return (source[pos] & 0xff)
+                | ((source[pos + 1] & 0xff) << 8)
+                | ((source[pos + 2] & 0xff) << 16)
+                | ((source[pos + 3] & 0xff) << 24);
+    }
+
+    static long getLong(byte[] source, int pos) {
+        return (getInt(source, pos) & 0xffffffffL)
+                | ((long) getInt(source, pos + 4) << 32);
+    }
+
+    static void putShort(byte[] target, int pos, int value) {
+        target[pos] = (byte) value;
+        target[pos + 1] = (byte) (value >>> 8);
+    }
+
+    static void putInt(byte[] target, int pos, int value) {
+        target[pos] = (byte) value;
+        target[pos + 1] = (byte) (value >>> 8);
+        target[pos + 2] = (byte) (value >>> 16);
+        target[pos + 3] = (byte) (value >>> 24);
+    }
+
+    static void putLong(byte[] target, int pos, long value) {
+        putInt(target, pos, (int) value);
+        putInt(target, pos + 4, (int) (value >>> 32));
+    }
+}
@@ -0,0 +1,22 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * SCALE codec reader for a value that fits into Java <code>long</code>, which allows reading it without boxing.
+ *
+ * @see ScaleCodecReader#readLong(LongScaleReader)
+ */
+public interface LongScaleReader extends ScaleReader<Long> {
+
+    /**
+     * Reads value from specified reader. The reader must be positioned on the beginning of the value
+     *
+     * @param rdr reader with the encoded data
+     * @return read value
+     */
+    long readLong(ScaleCodecReader rdr);
+
+    @Override
+    default Long read(ScaleCodecReader rdr) {
+        return readLong(rdr);
+    }
+}
@@ -0,0 +1,34 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.io.IOException;
+
+/**
+ * SCALE codec writer for a Java <code>long</code> value, which allows writing it without boxing.
+ *
+ * @see ScaleCodecWriter#writeLong(LongScaleWriter, long)
+ */
+public interface LongScaleWriter extends ScaleWriter<Long> {
+
+    void writeLong(ScaleCodecWriter wrt, long value) throws IOException;
+
+    @Override
+    default void write(ScaleCodecWriter wrt, Long value) throws IOException {
+        writeLong(wrt, value);
+    }
+
+    /**
+     * Calculate the size of the encoded value without boxing it
+     *
+     * @param value value to encode
+     * @return size in bytes, or {@link #UNKNOWN_SIZE} if the writer doesn't support it
+     * @see ScaleWriter#encodedSize(Object)
+     */
+    default int encodedSize(long value) {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    default int encodedSize(Long value) {
+        return encodedSize(value.longValue());
+    }
+}
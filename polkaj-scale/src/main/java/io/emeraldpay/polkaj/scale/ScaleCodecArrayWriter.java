@@ -0,0 +1,233 @@
+package io.emeraldpay.polkaj.scale;
+
+import io.emeraldpay.polkaj.types.ByteData;
+import io.emeraldpay.polkaj.types.HexCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * SCALE codec writer into a growable byte array. Unlike a writer over a {@link java.io.ByteArrayOutputStream} it's not
+ * synchronized, and can be reused for another value with {@link #reset()}, which keeps the allocated buffer.
+ * <br>
+ * A length reserved with {@link #reserveCompact()} is written in place when it's known, so data of unknown size can be
+ * encoded without an intermediate buffer. The writer is not thread-safe.
+ */
+public class ScaleCodecArrayWriter extends ScaleCodecWriter {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private byte[] buffer;
+    private int size = 0;
+
+    // positions of the reserved lengths which are not filled yet
+    private int[] slots = new int[4];
+    private int reserved = 0;
+
+    public ScaleCodecArrayWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity initial size of the buffer
+     */
+    public ScaleCodecArrayWriter(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        this.buffer = new byte[capacity];
+    }
+
+    @Override
+    public void directWrite(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void directWrite(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException("Data " + off + ".." + (off + len) + " is outside of " + b.length);
+        }
+        ensureCapacity(len);
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+    @Override
+    public void writeInt16(int value) {
+        ensureCapacity(2);
+        LittleEndian.putShort(buffer, size, value);
+        size += 2;
+    }
+
+    @Override
+    public void writeInt32(int value) {
+        ensureCapacity(4);
+        LittleEndian.putInt(buffer, size, value);
+        size += 4;
+    }
+
+    @Override
+    public void writeInt64(long value) {
+        ensureCapacity(8);
+        LittleEndian.putLong(buffer, size, value);
+        size += 8;
+    }
+
+    /**
+     * Reserve one byte for the compact value, which is the size of the most common values. If the value requires more
+     * bytes when it's filled, the data written after it is shifted.
+     */
+    @Override
+    public int reserveCompact() {
+        if (reserved == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[reserved] = size;
+        directWrite(0);
+        return reserved++;
+    }
+
+    @Override
+    public int sizeAfter(int slot) {
+        checkSlot(slot);
+        return size - slots[slot] - 1;
+    }
+
+    @Override
+    public void fillCompact(int slot, int value) {
+        checkSlot(slot);
+        if (slot != reserved - 1) {
+            throw new IllegalStateException("Reserved length " + (reserved - 1) + " must be filled before " + slot);
+        }
+        int pos = slots[slot];
+        int width = COMPACT_UINT.encodedSize(value);
+        if (width > 1) {
+            ensureCapacity(width - 1);
+            System.arraycopy(buffer, pos + 1, buffer, pos + width, size - pos - 1);
+        }
+        size += width - 1;
+        if (width == 5) {
+            buffer[pos++] = CompactMode.BIGINT.getValue();
+        } else {
+            value = (value << 2) + CompactMode.forNumber(value).getValue();
+        }
+        for (int i = 0; i < Math.min(width, 4); i++) {
+            buffer[pos + i] = (byte) (value >>> (i * 8));
+        }
+        reserved--;
+    }
+
+    /**
+     * Write the value as a byte array, i.e. prefixed with the compact length of its encoding. If the writer provides
+     * {@link ScaleWriter#encodedSize(Object)} the written length is verified to match it, otherwise the length is
+     * reserved and filled after writing the value.
+     *
+     * @throws IllegalStateException if the writer wrote a different amount of bytes than its encodedSize
+     */
+    @Override
+    public <T> void writeAsList(ScaleWriter<T> writer, T value) throws IOException {
+        int expected = writer.encodedSize(value);
+        if (expected < 0) {
+            int slot = reserveCompact();
+            writer.write(this, value);
+            fillCompact(slot, sizeAfter(slot));
+            return;
+        }
+        writeCompact(expected);
+        int start = size;
+        writer.write(this, value);
+        if (size - start != expected) {
+            throw new IllegalStateException("Writer " + writer.getClass().getName() + " wrote " + (size - start)
+                    + " bytes, but its encodedSize is " + expected);
+        }
+    }
+
+    /**
+     * @return true if there is a reserved length which is not filled yet
+     */
+    boolean hasReserved() {
+        return reserved > 0;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= reserved) {
+            throw new IllegalStateException("Length " + slot + " is not reserved");
+        }
+    }
+
+    private void ensureCapacity(int len) {
+        if (buffer.length - size >= len) {
+            return;
+        }
+        long required = (long) size + len;
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Buffer is too large: " + required);
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) buffer.length * 2, required));
+        buffer = Arrays.copyOf(buffer, capacity);
+    }
+
+    /**
+     * Drop the written data, keeping the allocated buffer for the next value
+     */
+    public void reset() {
+        size = 0;
+        reserved = 0;
+    }
+
+    /**
+     * @return amount of written bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return current size of the allocated buffer
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return a copy of the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * @return written bytes as ByteData
+     */
+    public ByteData toByteData() {
+        return ByteData.wrap(toByteArray());
+    }
+
+    /**
+     * @return written bytes as a <code>0x</code> prefixed hex string, encoded directly from the buffer
+     */
+    public String toHex() {
+        return HexCodec.encode(buffer, 0, size, true);
+    }
+
+    /**
+     * Copy the written bytes into the output stream
+     *
+     * @param out target stream
+     * @throws IOException if failed to write
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
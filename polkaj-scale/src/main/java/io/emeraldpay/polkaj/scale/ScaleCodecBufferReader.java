@@ -0,0 +1,186 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * SCALE codec reader backed by a {@link ByteBuffer}, which may be a heap, a direct or a memory-mapped buffer.
+ * <br>
+ * The reader uses the content of the buffer between its current position and limit, and positions passed to
+ * {@link #seek(int)} are relative to the initial position of the buffer. The original buffer is never modified,
+ * so it can be shared between multiple readers.
+ */
+public class ScaleCodecBufferReader extends ScaleCodecReader {
+
+    private final ByteBuffer source;
+
+    public ScaleCodecBufferReader(ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("Source buffer is null");
+        }
+        this.source = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Map a region of the file into memory and create a reader for it
+     *
+     * @param channel file channel
+     * @param position position in the file where the region starts
+     * @param size size of the region
+     * @return reader for the mapped region
+     * @throws IOException if failed to map the file
+     */
+    public static ScaleCodecBufferReader map(FileChannel channel, long position, int size) throws IOException {
+        return new ScaleCodecBufferReader(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+    }
+
+    @Override
+    public ScaleCodecBufferReader duplicate() {
+        ByteBuffer copy = source.duplicate();
+        copy.position(0);
+        ScaleCodecBufferReader result = new ScaleCodecBufferReader(copy);
+        result.source.position(source.position());
+        result.setLimits(getLimits());
+        return result;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasRemaining();
+    }
+
+    @Override
+    public int getPosition() {
+        return source.position();
+    }
+
+    @Override
+    public void skip(int len) {
+        int pos = source.position();
+        if (len < 0 && Math.abs(len) > pos) {
+            throw new IllegalArgumentException("Position cannot be negative: " + pos + " " + len);
+        }
+        if (len > source.remaining()) {
+            throw underflow(len);
+        }
+        source.position(pos + len);
+    }
+
+    @Override
+    public void seek(int pos) {
+        if (pos < 0) {
+            throw new IllegalArgumentException("Position cannot be negative: " + pos);
+        } else if (pos >= source.limit()) {
+            throw new IllegalArgumentException("Position " + pos + " must be strictly smaller than source length: " + source.limit());
+        }
+        source.position(pos);
+    }
+
+    @Override
+    public byte readByte() {
+        if (!source.hasRemaining()) {
+            throw underflow(1);
+        }
+        return source.get();
+    }
+
+    @Override
+    public int readInt32() {
+        if (source.remaining() >= 4) {
+            return source.getInt();
+        }
+        return super.readInt32();
+    }
+
+    @Override
+    public long readInt64() {
+        if (source.remaining() >= 8) {
+            return source.getLong();
+        }
+        return super.readInt64();
+    }
+
+    @Override
+    public byte[] readByteArray(int len) {
+        if (len > source.remaining()) {
+            throw underflow(len);
+        }
+        checkBytes(len);
+        byte[] result = new byte[len];
+        source.get(result);
+        return result;
+    }
+
+    /**
+     * Read bytes as a view of the source. For a heap buffer it references the backing array, but for a direct or
+     * mapped buffer the bytes are copied to heap.
+     *
+     * @param len amount of bytes to read
+     * @return view of the read bytes
+     */
+    @Override
+    public ByteSlice readByteSlice(int len) {
+        if (!source.hasArray() || source.isReadOnly()) {
+            return ByteSlice.of(readByteArray(len));
+        }
+        if (len > source.remaining()) {
+            throw underflow(len);
+        }
+        checkBytes(len);
+        ByteSlice result = new ByteSlice(source.array(), source.arrayOffset() + source.position(), len);
+        source.position(source.position() + len);
+        return result;
+    }
+
+    @Override
+    public int mark() {
+        return source.position();
+    }
+
+    /**
+     * Get the bytes read since the mark. For a heap buffer it references the backing array, but for a direct or
+     * mapped buffer the bytes are copied to heap, use {@link #captureBuffer(int)} to avoid the copy.
+     *
+     * @param mark position returned by {@link #mark()}
+     * @return read bytes
+     */
+    @Override
+    public ByteSlice capture(int mark) {
+        if (!source.hasArray() || source.isReadOnly()) {
+            ByteBuffer captured = captureBuffer(mark);
+            byte[] result = new byte[captured.remaining()];
+            captured.get(result);
+            return ByteSlice.of(result);
+        }
+        checkMark(mark);
+        return new ByteSlice(source.array(), source.arrayOffset() + mark, source.position() - mark);
+    }
+
+    /**
+     * Get the bytes read since the mark as a view of the source buffer, without copying them
+     *
+     * @param mark position returned by {@link #mark()}
+     * @return read-only little-endian buffer with the read bytes
+     */
+    public ByteBuffer captureBuffer(int mark) {
+        checkMark(mark);
+        ByteBuffer result = source.duplicate();
+        result.limit(source.position()).position(mark);
+        return result.slice().order(ByteOrder.LITTLE_ENDIAN).asReadOnlyBuffer();
+    }
+
+    private void checkMark(int mark) {
+        if (mark < 0 || mark > source.position()) {
+            throw new IllegalArgumentException("Mark " + mark + " is outside of the read data 0.." + source.position());
+        }
+    }
+
+    private ScaleUnderflowException underflow(int len) {
+        return new ScaleUnderflowException(
+                "Cannot read " + len + " bytes at " + source.position() + " of " + source.limit(),
+                len - source.remaining()
+        );
+    }
+}
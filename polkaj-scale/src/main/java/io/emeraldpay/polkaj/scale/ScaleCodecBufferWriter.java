@@ -0,0 +1,296 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * SCALE codec writer into a {@link ByteBuffer}, which may be a heap or a direct buffer. Multi-byte values are written
+ * with a single little-endian put instead of writing each byte separately.
+ * <br>
+ * The writer either fills a provided buffer, and fails with {@link BufferOverflowException} if the data doesn't fit
+ * into it, or writes the data into a {@link WritableByteChannel} each time its own buffer is full and on
+ * {@link #flush()}. Data written after a length reserved with {@link #reserveCompact()} is kept in the buffer until
+ * the length is filled, so with a channel it must fit into the buffer.
+ * <br>
+ * The writer is not thread-safe.
+ */
+public class ScaleCodecBufferWriter extends ScaleCodecWriter {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final WritableByteChannel channel;
+
+    // positions of the reserved lengths which are not filled yet
+    private int[] slots = new int[4];
+    private int reserved = 0;
+
+    /**
+     * Create writer into the provided buffer. The data is written from the current position of the buffer, but
+     * the position of the original buffer is not changed, use {@link #toByteBuffer()} to get the written data.
+     *
+     * @param target target buffer
+     */
+    public ScaleCodecBufferWriter(ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("Target buffer is null");
+        }
+        this.buffer = target.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.start = buffer.position();
+        this.channel = null;
+    }
+
+    /**
+     * Create writer into the channel, with a direct buffer of default size
+     *
+     * @param channel target channel
+     */
+    public ScaleCodecBufferWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create writer into the channel, with a direct buffer of the specified size
+     *
+     * @param channel target channel
+     * @param bufferSize size of the buffer
+     */
+    public ScaleCodecBufferWriter(WritableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new NullPointerException("Channel is null");
+        }
+        if (bufferSize < 8) {
+            throw new IllegalArgumentException("Buffer size must be at least 8 bytes: " + bufferSize);
+        }
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.start = 0;
+        this.channel = channel;
+    }
+
+    @Override
+    public void directWrite(int b) throws IOException {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void directWrite(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException("Data " + off + ".." + (off + len) + " is outside of " + b.length);
+        }
+        if (channel != null && len > buffer.remaining()) {
+            flushBuffer();
+            if (len > buffer.remaining() && reserved == 0) {
+                // too large for the buffer, so write it directly
+                writeFully(ByteBuffer.wrap(b, off, len));
+                return;
+            }
+        }
+        if (len > buffer.remaining()) {
+            throw overflow(len);
+        }
+        buffer.put(b, off, len);
+    }
+
+    /**
+     * Write the composite data. With a channel, data which doesn't fit into the buffer is written with a gathering
+     * write of all its segments, after flushing the buffer.
+     */
+    @Override
+    public void writeBytes(CompositeBytes value) throws IOException {
+        if (channel != null && value.length() > buffer.remaining() && reserved == 0) {
+            flushBuffer();
+            value.writeTo(channel);
+            return;
+        }
+        super.writeBytes(value);
+    }
+
+    @Override
+    public void writeInt16(int value) throws IOException {
+        ensureRemaining(2);
+        buffer.putShort((short) value);
+    }
+
+    @Override
+    public void writeInt32(int value) throws IOException {
+        ensureRemaining(4);
+        buffer.putInt(value);
+    }
+
+    @Override
+    public void writeInt64(long value) throws IOException {
+        ensureRemaining(8);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Reserve one byte for the compact value, which is the size of the most common values. If the value requires more
+     * bytes when it's filled, the data written after it is shifted.
+     */
+    @Override
+    public int reserveCompact() throws IOException {
+        ensureRemaining(1);
+        if (reserved == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[reserved] = buffer.position();
+        buffer.put((byte) 0);
+        return reserved++;
+    }
+
+    @Override
+    public int sizeAfter(int slot) {
+        checkSlot(slot);
+        return buffer.position() - slots[slot] - 1;
+    }
+
+    @Override
+    public void fillCompact(int slot, int value) throws IOException {
+        checkSlot(slot);
+        if (slot != reserved - 1) {
+            throw new IllegalStateException("Reserved length " + (reserved - 1) + " must be filled before " + slot);
+        }
+        int width = COMPACT_UINT.encodedSize(value);
+        if (width > 1) {
+            ensureRemaining(width - 1);
+        }
+        // the buffer may be compacted by the call above
+        int pos = slots[slot];
+        int end = buffer.position();
+        if (width > 1) {
+            int shift = width - 1;
+            if (buffer.hasArray()) {
+                byte[] array = buffer.array();
+                int offset = buffer.arrayOffset();
+                System.arraycopy(array, offset + pos + 1, array, offset + pos + width, end - pos - 1);
+            } else {
+                for (int i = end - 1; i > pos; i--) {
+                    buffer.put(i + shift, buffer.get(i));
+                }
+            }
+        }
+        if (width == 5) {
+            buffer.put(pos++, CompactMode.BIGINT.getValue());
+        } else {
+            value = (value << 2) + CompactMode.forNumber(value).getValue();
+        }
+        for (int i = 0; i < Math.min(width, 4); i++) {
+            buffer.put(pos + i, (byte) (value >>> (i * 8)));
+        }
+        buffer.position(end + width - 1);
+        reserved--;
+    }
+
+    /**
+     * Get the written data, which is not flushed to the channel yet. The returned buffer shares the content with
+     * the writer, i.e. it's not copied, and must be consumed before writing anything else.
+     *
+     * @return read-only buffer with the written data
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteBuffer result = buffer.duplicate();
+        result.flip();
+        result.position(start);
+        return result.slice().order(ByteOrder.LITTLE_ENDIAN).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return amount of bytes in the buffer, i.e. written and not flushed to the channel yet
+     */
+    public int size() {
+        return buffer.position() - start;
+    }
+
+    /**
+     * Drop the data in the buffer, to reuse the writer for another value
+     */
+    public void reset() {
+        buffer.position(start);
+        reserved = 0;
+    }
+
+    /**
+     * Write the data into the channel. Does nothing if the writer has no channel.
+     *
+     * @throws IOException if failed to write
+     * @throws IllegalStateException if there is a reserved length which is not filled yet
+     */
+    @Override
+    public void flush() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        if (reserved > 0) {
+            throw new IllegalStateException("Reserved length is not filled");
+        }
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureRemaining(int len) throws IOException {
+        if (buffer.remaining() >= len) {
+            return;
+        }
+        if (channel != null) {
+            flushBuffer();
+        }
+        if (buffer.remaining() < len) {
+            throw overflow(len);
+        }
+    }
+
+    /**
+     * Write the data before the first reserved length into the channel, and move the rest to the beginning of the buffer
+     */
+    private void flushBuffer() throws IOException {
+        int end = buffer.position();
+        int available = reserved > 0 ? slots[0] : end;
+        if (available == 0) {
+            return;
+        }
+        buffer.flip();
+        buffer.limit(available);
+        writeFully(buffer);
+        buffer.limit(end);
+        buffer.compact();
+        for (int i = 0; i < reserved; i++) {
+            slots[i] -= available;
+        }
+    }
+
+    private void writeFully(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+
+    private BufferOverflowException overflow(int len) {
+        BufferOverflowException e = new BufferOverflowException();
+        e.initCause(new IllegalStateException("Cannot write " + len + " bytes, only " + buffer.remaining() + " available"
+                + (reserved > 0 ? " until the reserved length is filled" : "")));
+        return e;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= reserved) {
+            throw new IllegalStateException("Length " + slot + " is not reserved");
+        }
+    }
+}
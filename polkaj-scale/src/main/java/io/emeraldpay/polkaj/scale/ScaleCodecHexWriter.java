@@ -0,0 +1,58 @@
+package io.emeraldpay.polkaj.scale;
+
+import io.emeraldpay.polkaj.types.HexCodec;
+
+import java.io.IOException;
+
+/**
+ * SCALE codec writer which appends the encoded bytes as lower case hex digits to an {@link Appendable}, such as
+ * a {@link StringBuilder}, without an intermediate byte array. Use {@link #withPrefix(Appendable)} to start the
+ * output with <code>0x</code>, as expected by RPC.
+ * <br>
+ * The writer doesn't support reserved lengths. To get a hex string of a single value
+ * {@link ScaleExtract#writeHex(ScaleWriter, Object)} is usually faster.
+ */
+public class ScaleCodecHexWriter extends ScaleCodecWriter {
+
+    private final Appendable target;
+
+    /**
+     * @param target target to append the hex digits to
+     */
+    public ScaleCodecHexWriter(Appendable target) {
+        if (target == null) {
+            throw new NullPointerException("Target is null");
+        }
+        this.target = target;
+    }
+
+    /**
+     * Create writer which starts the output with <code>0x</code>
+     *
+     * @param target target to append the hex to
+     * @return writer
+     * @throws IOException if failed to append the prefix
+     */
+    public static ScaleCodecHexWriter withPrefix(Appendable target) throws IOException {
+        target.append("0x");
+        return new ScaleCodecHexWriter(target);
+    }
+
+    @Override
+    public void directWrite(int b) throws IOException {
+        HexCodec.appendHex(target, b);
+    }
+
+    @Override
+    public void directWrite(byte[] b, int off, int len) throws IOException {
+        HexCodec.appendHex(target, b, off, len);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
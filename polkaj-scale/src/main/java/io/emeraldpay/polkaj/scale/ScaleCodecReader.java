@@ -16,16 +16,89 @@ public class ScaleCodecReader {
     public static final UInt128Reader UINT128 = new UInt128Reader();
     public static final Int32Reader INT32 = new Int32Reader();
     public static final CompactUIntReader COMPACT_UINT = new CompactUIntReader();
+    public static final CompactULongReader COMPACT_ULONG = new CompactULongReader();
     public static final CompactBigIntReader COMPACT_BIGINT = new CompactBigIntReader();
     public static final BoolReader BOOL = new BoolReader();
     public static final BoolOptionalReader BOOL_OPTIONAL = new BoolOptionalReader();
     public static final StringReader STRING = new StringReader();
+    public static final ByteSliceReader UINT256_SLICE = new ByteSliceReader(32);
+
+    private static final byte[] EMPTY = new byte[0];
 
     private byte[] source;
-    private int pos = 0;
+    private int start;
+    private int limit;
+    private int pos;
+    // the source is referenced by a returned view or a duplicate, so it must not be reused by the caller
+    private boolean exposed;
+
+    private ScaleLimits limits = ScaleLimits.UNLIMITED;
+    private long usedBytes = 0;
+    private long usedElements = 0;
 
     public ScaleCodecReader(byte[] source) {
+        this(source, 0, source.length);
+    }
+
+    /**
+     * Create reader for a part of the source array. Positions of the reader are relative to the offset.
+     *
+     * @param source source bytes
+     * @param offset start of the data in the source
+     * @param length length of the data
+     */
+    public ScaleCodecReader(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Data " + offset + ".." + (offset + length) + " is outside of " + source.length);
+        }
+        this.source = source;
+        this.start = offset;
+        this.limit = offset + length;
+        this.pos = offset;
+    }
+
+    /**
+     * Reuse the reader for another source, which resets its position to the beginning of the new source
+     *
+     * @param source source bytes
+     */
+    public void reset(byte[] source) {
+        reset(source, 0, source.length);
+    }
+
+    /**
+     * Reuse the reader for a part of another source array, which resets its position to the beginning of the new source.
+     * Positions of the reader are relative to the offset.
+     *
+     * @param source source bytes
+     * @param offset start of the data in the source
+     * @param length length of the data
+     * @throws UnsupportedOperationException if the reader is not backed by a byte array
+     */
+    public void reset(byte[] source, int offset, int length) {
+        if (this.source == EMPTY && getClass() != ScaleCodecReader.class) {
+            throw new UnsupportedOperationException("Reader doesn't support reset(): " + getClass().getName());
+        }
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Data " + offset + ".." + (offset + length) + " is outside of " + source.length);
+        }
         this.source = source;
+        this.start = offset;
+        this.limit = offset + length;
+        this.pos = offset;
+        this.exposed = false;
+        resetUsage();
+    }
+
+    /**
+     * Constructor for readers backed by a source other than a byte array, which must override the methods
+     * accessing the source: {@link #hasNext()}, {@link #getPosition()}, {@link #skip(int)}, {@link #seek(int)},
+     * {@link #readByte()}, {@link #readByteArray(int)} and {@link #readByteSlice(int)}. A reader which can provide
+     * an independent copy of itself should also override {@link #duplicate()}, and a reader which can provide already
+     * read bytes should override {@link #mark()}, {@link #capture(int)} and {@link #release(int)}.
+     */
+    protected ScaleCodecReader() {
+        this(EMPTY);
     }
 
     /**
@@ -33,7 +106,14 @@ public class ScaleCodecReader {
      * @return true if has more elements
      */
     public boolean hasNext() {
-        return pos < source.length;
+        return pos < limit;
+    }
+
+    /**
+     * @return current position of the reader
+     */
+    public int getPosition() {
+        return pos - start;
     }
 
     /**
@@ -41,8 +121,11 @@ public class ScaleCodecReader {
      * @param len amount to bytes to skip
      */
     public void skip(int len) {
-        if (len < 0 && Math.abs(len) > pos) {
-            throw new IllegalArgumentException("Position cannot be negative: " + pos + " " + len);
+        if (len < 0 && Math.abs(len) > pos - start) {
+            throw new IllegalArgumentException("Position cannot be negative: " + (pos - start) + " " + len);
+        }
+        if (len > limit - pos) {
+            throw underflow(len);
         }
         pos += len;
     }
@@ -54,11 +137,203 @@ public class ScaleCodecReader {
     public void seek(int pos) {
         if (pos < 0) {
             throw new IllegalArgumentException("Position cannot be negative: " + pos);
-        } else if (pos >= source.length) {
-            throw new IllegalArgumentException("Position " + pos + " must be strictly smaller than source length: " + source.length);
+        } else if (pos >= limit - start) {
+            throw new IllegalArgumentException("Position " + pos + " must be strictly smaller than source length: " + (limit - start));
+        }
+
+        this.pos = start + pos;
+    }
+
+    /**
+     * Set limits on the amount of data allocated by the reader, which should be used for untrusted input. The limits
+     * are checked before allocating a byte array or a list, and if a limit is exceeded a {@link ScaleLimitException}
+     * is thrown. Also resets the amounts already counted against the limits.
+     *
+     * @param limits limits to use
+     */
+    public void setLimits(ScaleLimits limits) {
+        if (limits == null) {
+            throw new NullPointerException("Limits cannot be null");
         }
+        this.limits = limits;
+        resetUsage();
+    }
+
+    public ScaleLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Reset the total amount of bytes and elements counted against the limits, ex. before reading a next value from
+     * the same reader
+     */
+    public void resetUsage() {
+        usedBytes = 0;
+        usedElements = 0;
+    }
+
+    long getUsedBytes() {
+        return usedBytes;
+    }
+
+    long getUsedElements() {
+        return usedElements;
+    }
 
-        this.pos = pos;
+    void setUsage(long usedBytes, long usedElements) {
+        this.usedBytes = usedBytes;
+        this.usedElements = usedElements;
+    }
+
+    /**
+     * Verify that the reader can allocate a byte array of the specified length, and count it against the limits.
+     * A reader implementation must call it before allocating data for the bytes it reads.
+     *
+     * @param len length of the bytes
+     * @throws ScaleLimitException if the length is above the limits
+     */
+    public void checkBytes(int len) {
+        if (len < 0) {
+            throw new IllegalArgumentException("Length cannot be negative: " + len);
+        }
+        if (len > limits.getMaxLength()) {
+            throw new ScaleLimitException("Length " + len + " is above the limit " + limits.getMaxLength());
+        }
+        usedBytes += len;
+        if (usedBytes > limits.getMaxBytes()) {
+            throw new ScaleLimitException("Total bytes " + usedBytes + " is above the limit " + limits.getMaxBytes());
+        }
+    }
+
+    /**
+     * Verify that the reader can read a list of the specified size, and count it against the limits. A reader of a
+     * list must call it before allocating the list.
+     *
+     * @param size size of the list
+     * @throws ScaleLimitException if the size is above the limits
+     */
+    public void checkElements(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        if (size > limits.getMaxLength()) {
+            throw new ScaleLimitException("List size " + size + " is above the limit " + limits.getMaxLength());
+        }
+        usedElements += size;
+        if (usedElements > limits.getMaxElements()) {
+            throw new ScaleLimitException("Total elements " + usedElements + " is above the limit " + limits.getMaxElements());
+        }
+    }
+
+    /**
+     * Create an independent reader for the same data, starting at the current position. Both readers can be used
+     * and moved separately, but share the data, i.e. it's not copied.
+     *
+     * @return new reader for the same data
+     * @throws UnsupportedOperationException if the reader cannot be duplicated, ex. if it reads a stream
+     */
+    public ScaleCodecReader duplicate() {
+        if (source == EMPTY && getClass() != ScaleCodecReader.class) {
+            // a subclass with its own source which doesn't override the method
+            throw new UnsupportedOperationException("Reader doesn't support duplicate(): " + getClass().getName());
+        }
+        ScaleCodecReader copy = new ScaleCodecReader(source, start, limit - start);
+        exposed = true;
+        copy.pos = pos;
+        copy.limits = limits;
+        return copy;
+    }
+
+    /**
+     * Mark the current position, to get the bytes read after it with {@link #capture(int)}. The mark must be released
+     * with {@link #release(int)} when the bytes are not needed anymore.
+     *
+     * @return the current position
+     * @throws UnsupportedOperationException if the reader cannot provide the read bytes
+     */
+    public int mark() {
+        if (source == EMPTY && getClass() != ScaleCodecReader.class) {
+            throw new UnsupportedOperationException("Reader doesn't support mark(): " + getClass().getName());
+        }
+        return getPosition();
+    }
+
+    /**
+     * Get the exact bytes read since the mark, i.e. the source between the mark and the current position, as a view
+     * of the source without making a copy
+     *
+     * @param mark position returned by {@link #mark()}
+     * @return read bytes
+     * @throws IllegalArgumentException if the mark is after the current position
+     */
+    public ByteSlice capture(int mark) {
+        int end = pos - start;
+        if (mark < 0 || mark > end) {
+            throw new IllegalArgumentException("Mark " + mark + " is outside of the read data 0.." + end);
+        }
+        exposed = true;
+        return new ByteSlice(source, start + mark, end - mark);
+    }
+
+    /**
+     * Release the mark, which allows the reader to drop the data kept for it
+     *
+     * @param mark position returned by {@link #mark()}
+     */
+    public void release(int mark) {
+    }
+
+    /**
+     * Check if the reader keeps the progress of a value between attempts to read it, which is the case for a reader
+     * used by {@link IncrementalDecoder}. A reader of a composite value with many elements, such as a list, can keep
+     * its progress with {@link #keepProgress(ScaleReader, Object)} to continue after the already read elements on a next
+     * attempt, instead of going through all of them again.
+     *
+     * @return true if the progress is kept
+     */
+    public boolean keepsProgress() {
+        return false;
+    }
+
+    /**
+     * Keep the progress of the value which is currently read by the owner, at the current position. All nested values
+     * read before the call must be covered by the progress, since a next attempt continues from this position.
+     * Ignored if the reader doesn't keep the progress, or if the owner was not called through {@link #read(ScaleReader)}.
+     *
+     * @param owner reader of the value
+     * @param progress state of reading the value
+     */
+    public void keepProgress(ScaleReader<?> owner, Object progress) {
+    }
+
+    /**
+     * Get the progress kept by a previous attempt to read the current value, and move to the position where it was kept.
+     * Must be called by the owner before reading anything else for the value.
+     *
+     * @param owner reader of the value
+     * @return kept progress, or null if the value is read from the beginning
+     */
+    public Object resumeProgress(ScaleReader<?> owner) {
+        return null;
+    }
+
+    /**
+     * Read a value together with the exact bytes it was decoded from, which can be hashed or passed further
+     * without encoding the value again
+     *
+     * @param scaleReader reader implementation
+     * @param <T> resulting type
+     * @return read value with its bytes
+     * @see #capture(int)
+     */
+    public <T> Spanned<T> readSpanned(ScaleReader<T> scaleReader) {
+        int mark = mark();
+        try {
+            T value = read(scaleReader);
+            return new Spanned<>(value, mark, capture(mark));
+        } finally {
+            release(mark);
+        }
     }
 
     /**
@@ -66,11 +341,18 @@ public class ScaleCodecReader {
      */
     public byte readByte() {
         if (!hasNext()) {
-            throw new IndexOutOfBoundsException("Cannot read " + pos + " of " + source.length);
+            throw underflow(1);
         }
         return source[pos++];
     }
 
+    private ScaleUnderflowException underflow(int len) {
+        return new ScaleUnderflowException(
+                "Cannot read " + len + " bytes at " + (pos - start) + " of " + (limit - start),
+                pos + len - limit
+        );
+    }
+
     /**
      * Read complex value from the reader
      * @param scaleReader reader implementation
@@ -84,16 +366,73 @@ public class ScaleCodecReader {
         return scaleReader.read(this);
     }
 
+    /**
+     * Read a value that fits into int, without boxing it
+     * @param scaleReader reader implementation
+     * @return read value
+     */
+    public int readInt(IntScaleReader scaleReader) {
+        if (scaleReader == null) {
+            throw new NullPointerException("ItemReader cannot be null");
+        }
+        return scaleReader.readInt(this);
+    }
+
+    /**
+     * Read a value that fits into long, without boxing it
+     * @param scaleReader reader implementation
+     * @return read value
+     */
+    public long readLong(LongScaleReader scaleReader) {
+        if (scaleReader == null) {
+            throw new NullPointerException("ItemReader cannot be null");
+        }
+        return scaleReader.readLong(this);
+    }
+
     public int readUByte() {
-        return UBYTE.read(this);
+        return readByte() & 0xff;
+    }
+
+    /**
+     * Read 4 bytes as a little-endian int. It's the same as reading them with {@link #INT32}, but a reader backed
+     * by an array or a buffer reads them at once.
+     *
+     * @return int value with the same bits as the encoded value
+     */
+    public int readInt32() {
+        if (limit - pos >= 4) {
+            int value = LittleEndian.getInt(source, pos);
+            pos += 4;
+            return value;
+        }
+        return readUByte()
+                | (readUByte() << 8)
+                | (readUByte() << 16)
+                | (readUByte() << 24);
+    }
+
+    /**
+     * Read 8 bytes as a little-endian long. Values larger than 2**63-1 are read as negative numbers with the same bits.
+     * A reader backed by an array or a buffer reads them at once.
+     *
+     * @return long value with the same bits as the encoded value
+     */
+    public long readInt64() {
+        if (limit - pos >= 8) {
+            long value = LittleEndian.getLong(source, pos);
+            pos += 8;
+            return value;
+        }
+        return (readInt32() & 0xffffffffL) | ((long) readInt32() << 32);
     }
 
     public int readUint16() {
-        return UINT16.read(this);
+        return UINT16.readInt(this);
     }
 
     public long readUint32() {
-        return UINT32.read(this);
+        return UINT32.readLong(this);
     }
 
     public BigInteger readUint128() {
@@ -101,7 +440,41 @@ public class ScaleCodecReader {
     }
 
     public int readCompactInt() {
-        return COMPACT_UINT.read(this);
+        return COMPACT_UINT.readInt(this);
+    }
+
+    public long readCompactLong() {
+        return COMPACT_ULONG.readLong(this);
+    }
+
+    /**
+     * Skip a compact encoded value of any size, without decoding it
+     */
+    public void skipCompact() {
+        int type = readUByte();
+        CompactMode mode = CompactMode.byValue((byte)(type & 0b11));
+        if (mode == CompactMode.TWO) {
+            skip(1);
+        } else if (mode == CompactMode.FOUR) {
+            skip(3);
+        } else if (mode == CompactMode.BIGINT) {
+            skip((type >> 2) + 4);
+        }
+    }
+
+    /**
+     * Read a union value, i.e. Rust style enum, passing its type index and the reader to the visitor which reads the
+     * actual value. Unlike {@link io.emeraldpay.polkaj.scale.reader.UnionReader} the value is not wrapped into a {@link UnionValue}.
+     *
+     * @param visitor visitor to read the value
+     * @param <R> type of the result
+     * @return value returned by the visitor
+     */
+    public <R> R readUnion(UnionVisitor<R> visitor) {
+        if (visitor == null) {
+            throw new NullPointerException("UnionVisitor cannot be null");
+        }
+        return visitor.visit(readUByte(), this);
     }
 
     public boolean readBoolean() {
@@ -137,6 +510,10 @@ public class ScaleCodecReader {
     }
 
     public byte[] readByteArray(int len) {
+        if (len > limit - pos) {
+            throw underflow(len);
+        }
+        checkBytes(len);
         byte[] result = new byte[len];
         System.arraycopy(source, pos, result, 0, result.length);
         pos += len;
@@ -144,10 +521,78 @@ public class ScaleCodecReader {
     }
 
     /**
-     * Read string, encoded as UTF-8 bytes
-     * @return string value
+     * Read bytes as a view of the source, without making a copy
+     *
+     * @param len amount of bytes to read
+     * @return view of the read bytes
+     * @see ByteSlice
+     */
+    public ByteSlice readByteSlice(int len) {
+        if (len > limit - pos) {
+            throw underflow(len);
+        }
+        checkBytes(len);
+        ByteSlice result = new ByteSlice(source, pos, len);
+        exposed = true;
+        pos += len;
+        return result;
+    }
+
+    /**
+     * Read a compact length prefixed byte array as a view of the source, without making a copy
+     *
+     * @return view of the read bytes
+     * @see ByteSlice
+     */
+    public ByteSlice readByteSlice() {
+        int len = readCompactInt();
+        return readByteSlice(len);
+    }
+
+    public ByteSlice readUint256Slice() {
+        return readByteSlice(32);
+    }
+
+    /**
+     * Read bytes as a temporary view of the source, which the caller uses only to decode or copy the bytes and doesn't
+     * keep after reading the value. Unlike {@link #readByteSlice(int)}, it allows the owner of the source to reuse it
+     * after reading, see {@link ScaleExtract#readHex(ScaleReader, CharSequence)}.
+     *
+     * @param len amount of bytes to read
+     * @return view of the read bytes
+     */
+    public ByteSlice readTransientSlice(int len) {
+        boolean wasExposed = exposed;
+        ByteSlice result = readByteSlice(len);
+        exposed = wasExposed;
+        return result;
+    }
+
+    /**
+     * Read a compact length prefixed byte array as a temporary view of the source
+     *
+     * @return view of the read bytes
+     * @see #readTransientSlice(int)
+     */
+    public ByteSlice readTransientSlice() {
+        int len = readCompactInt();
+        return readTransientSlice(len);
+    }
+
+    /**
+     * Read a string encoded as length prefixed UTF-8 bytes. The bytes are decoded directly from the source, without
+     * making an intermediate copy.
+     *
+     * @return read string
      */
     public String readString() {
-        return new String(readByteArray());
+        return readTransientSlice().toUtf8String();
+    }
+
+    /**
+     * @return true if a view of the source array or a duplicate reader was returned since the last reset
+     */
+    boolean isSourceExposed() {
+        return exposed;
     }
 }
@@ -0,0 +1,286 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * SCALE codec reader that pulls the data from an {@link InputStream} or a {@link ReadableByteChannel} through a bounded
+ * internal buffer, i.e. it uses a constant amount of memory regardless of the size of the input.
+ * <br>
+ * Since the data is read only once, the reader can move back only within the currently buffered data, and positions
+ * passed to {@link #seek(int)} are counted from the beginning of the stream. An I/O error is thrown as {@link UncheckedIOException}.
+ * While a position is marked with {@link #mark()} the data after it is kept in the buffer, which grows if needed,
+ * until the mark is released with {@link #release(int)}.
+ * A channel must be in blocking mode.
+ */
+public class ScaleCodecStreamReader extends ScaleCodecReader implements Closeable {
+
+    /**
+     * Default size of the internal buffer
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Amount of already consumed bytes kept in the buffer when it's refilled, to allow small skips backward
+     */
+    private static final int KEEP_BYTES = 16;
+
+    private final InputStream stream;
+    private final ReadableByteChannel channel;
+    private byte[] buffer;
+
+    // position of the buffer start in the stream
+    private long offset = 0;
+    private int bufPos = 0;
+    private int bufLimit = 0;
+    private boolean eof = false;
+    // position in the stream from which the data is kept in the buffer, or -1 if not marked
+    private long marked = -1;
+    // amount of marks which are not released yet
+    private int marks = 0;
+
+    public ScaleCodecStreamReader(InputStream stream) {
+        this(stream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ScaleCodecStreamReader(InputStream stream, int bufferSize) {
+        this(stream, null, bufferSize);
+        if (stream == null) {
+            throw new NullPointerException("Input stream is null");
+        }
+    }
+
+    public ScaleCodecStreamReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ScaleCodecStreamReader(ReadableByteChannel channel, int bufferSize) {
+        this(null, channel, bufferSize);
+        if (channel == null) {
+            throw new NullPointerException("Channel is null");
+        }
+    }
+
+    private ScaleCodecStreamReader(InputStream stream, ReadableByteChannel channel, int bufferSize) {
+        if (bufferSize <= KEEP_BYTES) {
+            throw new IllegalArgumentException("Buffer size must be larger than " + KEEP_BYTES + ": " + bufferSize);
+        }
+        this.stream = stream;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * @return current position in the stream
+     */
+    public long getStreamPosition() {
+        return offset + bufPos;
+    }
+
+    @Override
+    public int getPosition() {
+        long pos = getStreamPosition();
+        if (pos > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Position is too large: " + pos);
+        }
+        return (int) pos;
+    }
+
+    /**
+     * Read more data into the buffer, dropping the consumed bytes except few last of them
+     *
+     * @return false if the end of stream is reached
+     */
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        if (bufLimit == buffer.length) {
+            int drop = Math.max(0, bufPos - KEEP_BYTES);
+            if (marked >= 0) {
+                drop = (int) Math.min(drop, marked - offset);
+            }
+            if (drop == 0 && marked >= 0) {
+                // all of the buffered data is kept for the capture
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            } else if (drop == 0) {
+                // never happens as the buffer is refilled only when all of it is consumed
+                throw new IllegalStateException("Buffer is full");
+            }
+            System.arraycopy(buffer, drop, buffer, 0, bufLimit - drop);
+            offset += drop;
+            bufPos -= drop;
+            bufLimit -= drop;
+        }
+        try {
+            int read;
+            if (stream != null) {
+                read = stream.read(buffer, bufLimit, buffer.length - bufLimit);
+            } else {
+                read = channel.read(ByteBuffer.wrap(buffer, bufLimit, buffer.length - bufLimit));
+            }
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            bufLimit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (bufPos >= bufLimit) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void skip(int len) {
+        if (len < 0) {
+            if (len < -bufPos) {
+                throw new IllegalArgumentException("Cannot skip back beyond buffered data: " + getStreamPosition() + " " + len);
+            }
+            bufPos += len;
+            return;
+        }
+        while (len > 0) {
+            if (!hasNext()) {
+                throw new ScaleUnderflowException("Cannot skip " + len + " bytes at " + getStreamPosition(), len);
+            }
+            int chunk = Math.min(len, bufLimit - bufPos);
+            bufPos += chunk;
+            len -= chunk;
+        }
+    }
+
+    /**
+     * Move to the position in the stream, which should be either ahead of the current position or within the
+     * buffered data
+     *
+     * @param pos position
+     */
+    @Override
+    public void seek(int pos) {
+        if (pos < 0) {
+            throw new IllegalArgumentException("Position cannot be negative: " + pos);
+        }
+        long diff = pos - getStreamPosition();
+        if (diff > Integer.MAX_VALUE || diff < Integer.MIN_VALUE) {
+            throw new IllegalArgumentException("Position is too far: " + pos);
+        }
+        skip((int) diff);
+    }
+
+    /**
+     * Not supported, since the stream can be read only once
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public ScaleCodecReader duplicate() {
+        throw new UnsupportedOperationException("Stream reader cannot be duplicated");
+    }
+
+    /**
+     * Mark the current position, and keep the data after it in the buffer until the mark is released with
+     * {@link #release(int)}. If there is an earlier mark, the data is kept from that mark.
+     *
+     * @return the current position
+     */
+    @Override
+    public int mark() {
+        int pos = getPosition();
+        if (marks++ == 0) {
+            marked = pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Release the mark. When all marks are released the buffer keeps only the usual amount of consumed data.
+     *
+     * @param mark position returned by {@link #mark()}
+     */
+    @Override
+    public void release(int mark) {
+        if (marks > 0 && --marks == 0) {
+            marked = -1;
+        }
+    }
+
+    /**
+     * Get the bytes read since the mark. Since the internal buffer is reused, the result is always a copy of the data.
+     *
+     * @param mark position returned by {@link #mark()}
+     * @return read bytes
+     * @throws IllegalArgumentException if the data since the mark is not buffered
+     */
+    @Override
+    public ByteSlice capture(int mark) {
+        long pos = getStreamPosition();
+        if (mark < offset || mark > pos) {
+            throw new IllegalArgumentException("Data since " + mark + " is not buffered, available " + offset + ".." + pos);
+        }
+        return ByteSlice.of(Arrays.copyOfRange(buffer, (int) (mark - offset), bufPos));
+    }
+
+    @Override
+    public byte readByte() {
+        if (!hasNext()) {
+            throw new ScaleUnderflowException("Cannot read at " + getStreamPosition(), 1);
+        }
+        return buffer[bufPos++];
+    }
+
+    @Override
+    public byte[] readByteArray(int len) {
+        checkBytes(len);
+        // the length is not verified by the actual data yet, so a large array is extended as the data arrives
+        byte[] result = new byte[Math.min(len, buffer.length)];
+        int copied = 0;
+        while (copied < len) {
+            if (!hasNext()) {
+                throw new ScaleUnderflowException("Cannot read " + len + " bytes at " + (getStreamPosition() - copied), len - copied);
+            }
+            int chunk = Math.min(len - copied, bufLimit - bufPos);
+            if (copied + chunk > result.length) {
+                result = Arrays.copyOf(result, (int) Math.min(len, Math.max((long) result.length * 2, copied + chunk)));
+            }
+            System.arraycopy(buffer, bufPos, result, copied, chunk);
+            bufPos += chunk;
+            copied += chunk;
+        }
+        return result;
+    }
+
+    /**
+     * Read bytes. Since the internal buffer is reused, the result is always a copy of the data.
+     *
+     * @param len amount of bytes to read
+     * @return read bytes
+     */
+    @Override
+    public ByteSlice readByteSlice(int len) {
+        return ByteSlice.of(readByteArray(len));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        } else {
+            channel.close();
+        }
+    }
+}
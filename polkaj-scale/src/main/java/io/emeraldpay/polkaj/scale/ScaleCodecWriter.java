@@ -1,6 +1,7 @@
 package io.emeraldpay.polkaj.scale;
 
 import io.emeraldpay.polkaj.scale.writer.*;
+import io.emeraldpay.polkaj.types.ByteData;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -11,6 +12,7 @@ import java.util.Optional;
 public class ScaleCodecWriter implements Closeable {
 
     public static final CompactUIntWriter COMPACT_UINT = new CompactUIntWriter();
+    public static final CompactULongWriter COMPACT_ULONG = new CompactULongWriter();
     public static final CompactBigIntWriter COMPACT_BIGINT = new CompactBigIntWriter();
     public static final UInt16Writer UINT16 = new UInt16Writer();
     public static final UInt32Writer UINT32 = new UInt32Writer();
@@ -21,10 +23,24 @@ public class ScaleCodecWriter implements Closeable {
 
     private final OutputStream out;
 
+    // data written after a reserved length, which is kept until the length is known
+    private ScaleCodecArrayWriter pending;
+    // passes the bytes of immutable values to directWrite without copying them
+    private OutputStream direct;
+
     public ScaleCodecWriter(OutputStream out) {
         this.out = out;
     }
 
+    /**
+     * Constructor for writers with a target other than an output stream, which must override the methods
+     * accessing the target: {@link #directWrite(int)}, {@link #directWrite(byte[], int, int)}, {@link #flush()}
+     * and {@link #close()}
+     */
+    protected ScaleCodecWriter() {
+        this.out = null;
+    }
+
     public void writeUint256(byte[] value) throws IOException {
         if (value.length != 32) {
             throw new IllegalArgumentException("Value must be 32 byte array");
@@ -33,12 +49,91 @@ public class ScaleCodecWriter implements Closeable {
     }
 
     public void writeByteArray(byte[] value) throws IOException {
-        out.write(value, 0, value.length);
+        directWrite(value, 0, value.length);
     }
 
     public void writeAsList(byte[] value) throws IOException {
         writeCompact(value.length);
-        out.write(value, 0, value.length);
+        directWrite(value, 0, value.length);
+    }
+
+    /**
+     * Write the bytes of the value as-is, without making a copy of them
+     *
+     * @param value value to write, ex. a hash
+     * @throws IOException if failed to write
+     */
+    public void writeBytes(ByteData value) throws IOException {
+        value.writeTo(direct());
+    }
+
+    /**
+     * Write the bytes of the value as a byte array, i.e. prefixed with its compact length, without making a copy of them
+     *
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeAsList(ByteData value) throws IOException {
+        writeCompact(value.length());
+        writeBytes(value);
+    }
+
+    /**
+     * Write the composite data as-is, segment by segment, without joining the segments first
+     *
+     * @param value data to write
+     * @throws IOException if failed to write
+     */
+    public void writeBytes(CompositeBytes value) throws IOException {
+        value.writeTo(direct());
+    }
+
+    /**
+     * Write the composite data as a byte array, i.e. prefixed with its compact length
+     *
+     * @param value data to write
+     * @throws IOException if failed to write
+     */
+    public void writeAsList(CompositeBytes value) throws IOException {
+        writeCompact(value.length());
+        writeBytes(value);
+    }
+
+    private OutputStream direct() {
+        if (direct == null) {
+            direct = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    directWrite(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    directWrite(b, off, len);
+                }
+            };
+        }
+        return direct;
+    }
+
+    /**
+     * Write the value as a byte array, i.e. prefixed with the compact length of its encoding. If the writer provides
+     * {@link ScaleWriter#encodedSize(Object)} the length is written first and the value is encoded directly into the
+     * output, otherwise the value is encoded into a temporary buffer first.
+     *
+     * @param writer writer for the value
+     * @param value value to write
+     * @param <T> type of the value
+     * @throws IOException if failed to write
+     */
+    public <T> void writeAsList(ScaleWriter<T> writer, T value) throws IOException {
+        int size = writer.encodedSize(value);
+        if (size < 0) {
+            writeAsList(ScaleExtract.write(writer, value));
+            return;
+        }
+        writeCompact(size);
+        writer.write(this, value);
     }
 
     /**
@@ -48,6 +143,10 @@ public class ScaleCodecWriter implements Closeable {
      * @throws IOException if failed to write
      */
     public void directWrite(int b) throws IOException {
+        if (pending != null) {
+            pending.directWrite(b);
+            return;
+        }
         out.write(b);
     }
 
@@ -60,9 +159,103 @@ public class ScaleCodecWriter implements Closeable {
      * @throws IOException if failed to write
      */
     public void directWrite(byte[] b, int off, int len) throws IOException {
+        if (pending != null) {
+            pending.directWrite(b, off, len);
+            return;
+        }
         out.write(b, off, len);
     }
 
+    /**
+     * Write 2 lower bytes of the value in little-endian order. A writer into an array or a buffer writes them at once.
+     *
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeInt16(int value) throws IOException {
+        directWrite(value & 0xff);
+        directWrite((value >> 8) & 0xff);
+    }
+
+    /**
+     * Write 4 bytes of the value in little-endian order. A writer into an array or a buffer writes them at once.
+     *
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeInt32(int value) throws IOException {
+        directWrite(value & 0xff);
+        directWrite((value >> 8) & 0xff);
+        directWrite((value >> 16) & 0xff);
+        directWrite((value >> 24) & 0xff);
+    }
+
+    /**
+     * Write 8 bytes of the value in little-endian order. A writer into an array or a buffer writes them at once.
+     *
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeInt64(long value) throws IOException {
+        writeInt32((int) value);
+        writeInt32((int) (value >>> 32));
+    }
+
+    /**
+     * Reserve a place for a compact value which is not known yet, ex. size of a list encoded from a stream. The value
+     * must be filled with {@link #fillCompact(int, int)} when it's known. Reserved values can be nested, but must be
+     * filled in the reverse order.
+     * <br>
+     * A writer into an output stream keeps the data written after the reserved value until it's filled, then writes it
+     * into the stream. {@link ScaleCodecArrayWriter} writes the value in place.
+     *
+     * @return id of the reserved value
+     * @throws IOException if failed to write
+     * @throws UnsupportedOperationException if the writer doesn't support it
+     * @see #sizeAfter(int)
+     */
+    public int reserveCompact() throws IOException {
+        if (out == null) {
+            throw new UnsupportedOperationException("Writer doesn't support reserveCompact(): " + getClass().getName());
+        }
+        if (pending == null) {
+            pending = new ScaleCodecArrayWriter();
+        }
+        return pending.reserveCompact();
+    }
+
+    /**
+     * @param slot id of the reserved value
+     * @return amount of bytes written after the reserved value so far
+     * @throws IllegalStateException if the value is not reserved
+     */
+    public int sizeAfter(int slot) {
+        if (pending == null) {
+            throw new IllegalStateException("Length " + slot + " is not reserved");
+        }
+        return pending.sizeAfter(slot);
+    }
+
+    /**
+     * Write the reserved compact value
+     *
+     * @param slot id of the reserved value
+     * @param value value to write
+     * @throws IOException if failed to write
+     * @throws IllegalStateException if the value is not reserved, or a value reserved after it is not filled yet
+     */
+    public void fillCompact(int slot, int value) throws IOException {
+        if (pending == null) {
+            throw new IllegalStateException("Length " + slot + " is not reserved");
+        }
+        pending.fillCompact(slot, value);
+        if (!pending.hasReserved()) {
+            ScaleCodecArrayWriter data = pending;
+            pending = null;
+            data.writeTo(out);
+        }
+    }
+
     public void flush() throws IOException {
         out.flush();
     }
@@ -76,6 +269,28 @@ public class ScaleCodecWriter implements Closeable {
         writer.write(this, value);
     }
 
+    /**
+     * Write a value without boxing it
+     *
+     * @param writer writer implementation
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeInt(IntScaleWriter writer, int value) throws IOException {
+        writer.writeInt(this, value);
+    }
+
+    /**
+     * Write a value without boxing it
+     *
+     * @param writer writer implementation
+     * @param value value to write
+     * @throws IOException if failed to write
+     */
+    public void writeLong(LongScaleWriter writer, long value) throws IOException {
+        writer.writeLong(this, value);
+    }
+
     public void writeByte(int value) throws IOException {
         directWrite(value);
     }
@@ -85,15 +300,15 @@ public class ScaleCodecWriter implements Closeable {
     }
 
     public void writeUint16(int value) throws IOException {
-        UINT16.write(this, value);
+        UINT16.writeInt(this, value);
     }
 
     public void writeUint32(int value) throws IOException {
-        UINT32.write(this, value);
+        UINT32.writeInt(this, value);
     }
 
     public void writeUint32(long value) throws IOException {
-        ULONG32.write(this, value);
+        ULONG32.writeLong(this, value);
     }
 
     public void writeUint128(BigInteger value) throws IOException {
@@ -101,7 +316,11 @@ public class ScaleCodecWriter implements Closeable {
     }
 
     public void writeCompact(int value) throws IOException {
-        COMPACT_UINT.write(this, value);
+        COMPACT_UINT.writeInt(this, value);
+    }
+
+    public void writeCompact(long value) throws IOException {
+        COMPACT_ULONG.writeLong(this, value);
     }
 
     @SuppressWarnings("unchecked")
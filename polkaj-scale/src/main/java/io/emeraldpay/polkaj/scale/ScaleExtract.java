@@ -1,7 +1,10 @@
 package io.emeraldpay.polkaj.scale;
 
 import io.emeraldpay.polkaj.types.ByteData;
+import io.emeraldpay.polkaj.types.HexCodec;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.function.Function;
 
 /**
@@ -9,6 +12,18 @@ import java.util.function.Function;
  */
 public class ScaleExtract {
 
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Pooled writers larger than this are dropped after use, to avoid keeping an occasional large buffer forever
+     */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    // an instance is removed from the pool while it's in use, so a nested call (ex. from inside a reader) creates a new one
+    private static final ThreadLocal<ScaleCodecReader> READER = new ThreadLocal<>();
+    private static final ThreadLocal<ScaleCodecArrayWriter> WRITER = new ThreadLocal<>();
+    private static final ThreadLocal<byte[]> HEX_SOURCE = new ThreadLocal<>();
+
     /**
      * Shortcut to setup extraction of an Object from bytes array
      *
@@ -20,14 +35,12 @@ public class ScaleExtract {
         if (reader == null) {
             throw new NullPointerException("ScaleReader is null");
         }
-        return (encoded) -> {
-            ScaleCodecReader codec = new ScaleCodecReader(encoded);
-            return codec.read(reader);
-        };
+        return (encoded) -> read(reader, encoded, 0, encoded.length);
     }
 
     /**
-     * Shortcut to setup extraction of an Object from hex encoded bytes typically provided by RPC
+     * Shortcut to setup extraction of an Object from hex encoded bytes typically provided by RPC. The value is read
+     * directly from the data, without copying it.
      *
      * @param reader actual reader to use
      * @param <T> type of the result
@@ -37,9 +50,188 @@ public class ScaleExtract {
         if (reader == null) {
             throw new NullPointerException("ScaleReader is null");
         }
-        return (encoded) -> {
-            ScaleCodecReader codec = new ScaleCodecReader(encoded.getBytes());
+        // a read-only buffer, so views returned by the reader are copied instead of exposing the internal array
+        return (encoded) -> read(reader, encoded.asByteBuffer());
+    }
+
+    /**
+     * Shortcut to setup extraction of an Object from a hex string provided by RPC, which is decoded in a single pass
+     * without intermediate copies
+     *
+     * @param reader actual reader to use
+     * @param <T> type of the result
+     * @return Function to apply for extraction
+     * @see #readHex(ScaleReader, CharSequence)
+     */
+    public static <T> Function<CharSequence, T> fromHex(ScaleReader<T> reader) {
+        if (reader == null) {
+            throw new NullPointerException("ScaleReader is null");
+        }
+        return (encoded) -> readHex(reader, encoded);
+    }
+
+    /**
+     * Shortcut to setup extraction of an Object from untrusted bytes array, with limits on the allocated data
+     *
+     * @param reader actual reader to use
+     * @param limits limits for each extracted value
+     * @param <T> type of the result
+     * @return Function to apply for extraction
+     * @see ScaleCodecReader#setLimits(ScaleLimits)
+     */
+    public static <T> Function<byte[], T> fromBytesArray(ScaleReader<T> reader, ScaleLimits limits) {
+        if (reader == null) {
+            throw new NullPointerException("ScaleReader is null");
+        }
+        if (limits == null) {
+            throw new NullPointerException("Limits are null");
+        }
+        return (encoded) -> read(reader, limits, encoded, 0, encoded.length);
+    }
+
+    /**
+     * Read a value using a reader instance reused by the current thread
+     *
+     * @param reader actual reader to use
+     * @param source source bytes
+     * @param offset start of the data in the source
+     * @param length length of the data
+     * @param <T> type of the result
+     * @return read value
+     */
+    public static <T> T read(ScaleReader<T> reader, byte[] source, int offset, int length) {
+        return read(reader, ScaleLimits.UNLIMITED, source, offset, length);
+    }
+
+    /**
+     * Read a value from a hex string, with or without <code>0x</code> prefix, using a reader instance reused by
+     * the current thread. The hex is decoded into a buffer reused by the current thread as well, unless the read value
+     * references it (ex. through a {@link ByteSlice}), in which case the buffer is left to the value.
+     *
+     * @param reader actual reader to use
+     * @param hex hex encoded source bytes
+     * @param <T> type of the result
+     * @return read value
+     * @throws NumberFormatException if the source is not a valid hex
+     */
+    public static <T> T readHex(ScaleReader<T> reader, CharSequence hex) {
+        int length = HexCodec.decodedLength(hex);
+        byte[] source = HEX_SOURCE.get();
+        if (source == null || source.length < length) {
+            source = new byte[length];
+        } else {
+            HEX_SOURCE.set(null);
+        }
+        ScaleCodecReader codec = null;
+        try {
+            HexCodec.decode(hex, source, 0);
+            codec = acquireReader(source, 0, length);
+            return codec.read(reader);
+        } finally {
+            // the source is left to the value if it references it, even if reading failed after that
+            boolean reusable = codec == null || !codec.isSourceExposed();
+            if (codec != null) {
+                releaseReader(codec);
+            }
+            if (reusable && source.length <= MAX_POOLED_CAPACITY) {
+                HEX_SOURCE.set(source);
+            }
+        }
+    }
+
+    /**
+     * Read a value using a reader instance reused by the current thread, with limits on the allocated data
+     *
+     * @param reader actual reader to use
+     * @param limits limits for the read value
+     * @param source source bytes
+     * @param offset start of the data in the source
+     * @param length length of the data
+     * @param <T> type of the result
+     * @return read value
+     */
+    public static <T> T read(ScaleReader<T> reader, ScaleLimits limits, byte[] source, int offset, int length) {
+        ScaleCodecReader codec = acquireReader(source, offset, length);
+        codec.setLimits(limits);
+        try {
             return codec.read(reader);
-        };
+        } finally {
+            releaseReader(codec);
+        }
+    }
+
+    private static <T> T read(ScaleReader<T> reader, ByteBuffer source) {
+        return new ScaleCodecBufferReader(source).read(reader);
+    }
+
+    /**
+     * Encode a value using a writer instance reused by the current thread
+     *
+     * @param writer actual writer to use
+     * @param value value to encode
+     * @param <T> type of the value
+     * @return encoded bytes
+     * @throws IOException if the writer failed to encode the value
+     */
+    public static <T> byte[] write(ScaleWriter<T> writer, T value) throws IOException {
+        ScaleCodecArrayWriter codec = acquire();
+        try {
+            codec.write(writer, value);
+            return codec.toByteArray();
+        } finally {
+            release(codec);
+        }
+    }
+
+    /**
+     * Encode a value to a <code>0x</code> prefixed hex string, as expected by RPC, using a writer instance reused by
+     * the current thread. The string is encoded directly from the buffer of the writer.
+     *
+     * @param writer actual writer to use
+     * @param value value to encode
+     * @param <T> type of the value
+     * @return encoded value as hex
+     * @throws IOException if the writer failed to encode the value
+     */
+    public static <T> String writeHex(ScaleWriter<T> writer, T value) throws IOException {
+        ScaleCodecArrayWriter codec = acquire();
+        try {
+            codec.write(writer, value);
+            return codec.toHex();
+        } finally {
+            release(codec);
+        }
+    }
+
+    private static ScaleCodecReader acquireReader(byte[] source, int offset, int length) {
+        ScaleCodecReader codec = READER.get();
+        if (codec == null) {
+            return new ScaleCodecReader(source, offset, length);
+        }
+        READER.set(null);
+        codec.reset(source, offset, length);
+        return codec;
+    }
+
+    private static void releaseReader(ScaleCodecReader codec) {
+        codec.reset(EMPTY);
+        codec.setLimits(ScaleLimits.UNLIMITED);
+        READER.set(codec);
+    }
+
+    private static ScaleCodecArrayWriter acquire() {
+        ScaleCodecArrayWriter codec = WRITER.get();
+        if (codec == null) {
+            return new ScaleCodecArrayWriter();
+        }
+        WRITER.set(null);
+        return codec;
+    }
+
+    private static void release(ScaleCodecArrayWriter codec) {
+        codec.reset();
+        if (codec.capacity() <= MAX_POOLED_CAPACITY) {
+            WRITER.set(codec);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * Thrown when the data being read exceeds the {@link ScaleLimits} of the reader, which usually means the data is
+ * malformed or malicious.
+ *
+ * @see ScaleCodecReader#setLimits(ScaleLimits)
+ */
+public class ScaleLimitException extends IllegalStateException {
+
+    public ScaleLimitException(String message) {
+        super(message);
+    }
+}
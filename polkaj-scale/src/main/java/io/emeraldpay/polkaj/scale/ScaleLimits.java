@@ -0,0 +1,101 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * Limits on the amount of data a reader allocates, to safely read untrusted input. A malformed length prefix can
+ * declare a length up to 1Gb, which the reader would try to allocate before finding out the data is shorter.
+ * <br>
+ * The limits are checked by the reader before any allocation:
+ * <ul>
+ *     <li><code>maxLength</code> - max length of a single byte array or list</li>
+ *     <li><code>maxBytes</code> - max total amount of bytes read as byte arrays and strings by the reader</li>
+ *     <li><code>maxElements</code> - max total amount of list elements read by the reader</li>
+ * </ul>
+ * The totals are counted since the reader is created, reset or {@link ScaleCodecReader#resetUsage()} is called.
+ *
+ * @see ScaleCodecReader#setLimits(ScaleLimits)
+ */
+public final class ScaleLimits {
+
+    /**
+     * No limits, which is the default
+     */
+    public static final ScaleLimits UNLIMITED = new ScaleLimits(Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final int maxLength;
+    private final long maxBytes;
+    private final long maxElements;
+
+    private ScaleLimits(int maxLength, long maxBytes, long maxElements) {
+        this.maxLength = maxLength;
+        this.maxBytes = maxBytes;
+        this.maxElements = maxElements;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return max length of a single byte array or list
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * @return max total amount of bytes read as byte arrays
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return max total amount of list elements
+     */
+    public long getMaxElements() {
+        return maxElements;
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleLimits{" +
+                "maxLength=" + maxLength +
+                ", maxBytes=" + maxBytes +
+                ", maxElements=" + maxElements +
+                '}';
+    }
+
+    public static final class Builder {
+        private int maxLength = Integer.MAX_VALUE;
+        private long maxBytes = Long.MAX_VALUE;
+        private long maxElements = Long.MAX_VALUE;
+
+        public Builder maxLength(int maxLength) {
+            if (maxLength < 0) {
+                throw new IllegalArgumentException("Limit cannot be negative: " + maxLength);
+            }
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("Limit cannot be negative: " + maxBytes);
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public Builder maxElements(long maxElements) {
+            if (maxElements < 0) {
+                throw new IllegalArgumentException("Limit cannot be negative: " + maxElements);
+            }
+            this.maxElements = maxElements;
+            return this;
+        }
+
+        public ScaleLimits build() {
+            return new ScaleLimits(maxLength, maxBytes, maxElements);
+        }
+    }
+}
@@ -14,4 +14,14 @@ public interface ScaleReader<T> {
      */
     T read(ScaleCodecReader rdr);
 
+    /**
+     * Skips the value in the specified reader, i.e. moves the reader to the end of the value. By default it reads the
+     * value, but implementations should skip it with less work where possible (ex. without allocating the value).
+     *
+     * @param rdr reader with the encoded data
+     */
+    default void skip(ScaleCodecReader rdr) {
+        read(rdr);
+    }
+
 }
@@ -0,0 +1,24 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * Thrown when the reader reaches the end of the available data before the value is fully read. Tells how many more
+ * bytes are required at least, which allows to wait for the missing part of the data and retry.
+ *
+ * @see IncrementalDecoder
+ */
+public class ScaleUnderflowException extends IndexOutOfBoundsException {
+
+    private final int missing;
+
+    public ScaleUnderflowException(String message, int missing) {
+        super(message);
+        this.missing = missing;
+    }
+
+    /**
+     * @return minimal amount of bytes missing to read the value
+     */
+    public int getMissing() {
+        return missing;
+    }
+}
@@ -3,5 +3,23 @@ package io.emeraldpay.polkaj.scale;
 import java.io.IOException;
 
 public interface ScaleWriter<T> {
+
+    /**
+     * Returned by {@link #encodedSize(Object)} when the writer cannot tell the size without encoding the value
+     */
+    int UNKNOWN_SIZE = -1;
+
     void write(ScaleCodecWriter wrt, T value) throws IOException;
+
+    /**
+     * Calculate the size of the encoded value without encoding it, which allows to write a length prefix before
+     * the value, see {@link ScaleCodecWriter#writeAsList(ScaleWriter, Object)}. If the size is known it must be
+     * exactly the amount of bytes written by {@link #write(ScaleCodecWriter, Object)} for the same value.
+     *
+     * @param value value to encode
+     * @return size in bytes, or {@link #UNKNOWN_SIZE} if the writer doesn't support it
+     */
+    default int encodedSize(T value) {
+        return UNKNOWN_SIZE;
+    }
 }
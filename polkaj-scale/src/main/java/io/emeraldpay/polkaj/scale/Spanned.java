@@ -0,0 +1,71 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.util.Objects;
+
+/**
+ * A decoded value together with the exact bytes it was decoded from, and its position in the source
+ *
+ * @param <T> type of the value
+ * @see ScaleCodecReader#readSpanned(ScaleReader)
+ */
+public final class Spanned<T> {
+
+    private final T value;
+    private final int start;
+    private final ByteSlice bytes;
+
+    public Spanned(T value, int start, ByteSlice bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("Bytes are null");
+        }
+        this.value = value;
+        this.start = start;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return decoded value
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return position of the first byte of the value in the source, inclusive
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return position after the last byte of the value in the source, exclusive
+     */
+    public int getEnd() {
+        return start + bytes.length();
+    }
+
+    /**
+     * @return bytes of the encoded value
+     */
+    public ByteSlice getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Spanned)) return false;
+        Spanned<?> spanned = (Spanned<?>) o;
+        return start == spanned.start && Objects.equals(value, spanned.value) && bytes.equals(spanned.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, start, bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "Spanned{" + value + " at " + start + ".." + getEnd() + "}";
+    }
+}
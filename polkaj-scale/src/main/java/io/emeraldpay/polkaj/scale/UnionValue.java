@@ -2,10 +2,16 @@ package io.emeraldpay.polkaj.scale;
 
 import java.util.Objects;
 
+/**
+ * Value of a union, i.e. Rust style enum, with the index of its type. Immutable, so instances for variants without
+ * data can be shared.
+ *
+ * @param <T> common type of the values
+ */
 public class UnionValue<T> {
 
-    private int index;
-    private T value;
+    private final int index;
+    private final T value;
 
     public UnionValue(int index, T value) {
         if (index < 0) {
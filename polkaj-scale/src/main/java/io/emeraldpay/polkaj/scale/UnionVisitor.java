@@ -0,0 +1,20 @@
+package io.emeraldpay.polkaj.scale;
+
+/**
+ * Callback to read a union value, i.e. Rust style enum, without wrapping it into {@link UnionValue}
+ *
+ * @param <R> type of the result
+ * @see ScaleCodecReader#readUnion(UnionVisitor)
+ */
+@FunctionalInterface
+public interface UnionVisitor<R> {
+
+    /**
+     * Read the value of the union
+     *
+     * @param index type index of the value, 0..255
+     * @param rdr reader positioned at the value
+     * @return read value
+     */
+    R visit(int index, ScaleCodecReader rdr);
+}
@@ -0,0 +1,17 @@
+package io.emeraldpay.polkaj.scale.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Encode an <code>int</code>, <code>long</code>, <code>BigInteger</code> or <code>UInt128</code> field as a compact
+ * integer. For a <code>List</code> it applies to the elements.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ScaleCompact {
+}
@@ -0,0 +1,18 @@
+package io.emeraldpay.polkaj.scale.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Encode a Java enum field as a single byte with the ordinal of the value. For a <code>List</code> it applies to the elements.
+ *
+ * @see io.emeraldpay.polkaj.scale.reader.EnumReader
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ScaleEnum {
+}
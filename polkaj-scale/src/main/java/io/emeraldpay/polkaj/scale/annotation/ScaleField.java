@@ -0,0 +1,21 @@
+package io.emeraldpay.polkaj.scale.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field of a {@link ScaleStruct} to encode
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ScaleField {
+
+    /**
+     * @return position of the field in the encoded struct, fields are encoded in ascending order
+     */
+    int value();
+}
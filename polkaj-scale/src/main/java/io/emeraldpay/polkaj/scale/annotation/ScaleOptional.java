@@ -0,0 +1,17 @@
+package io.emeraldpay.polkaj.scale.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Encode a field as <code>Option&lt;T&gt;</code>, where <code>null</code> is <code>None</code>. Cannot be used with
+ * primitive types.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ScaleOptional {
+}
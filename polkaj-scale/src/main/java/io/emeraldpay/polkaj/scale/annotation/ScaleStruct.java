@@ -0,0 +1,44 @@
+package io.emeraldpay.polkaj.scale.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class to generate a SCALE reader and writer for it, as <code>[Name]ScaleReader</code> and
+ * <code>[Name]ScaleWriter</code> in the same package (for a nested class the name is prefixed with the names of the
+ * enclosing classes, ex. <code>Outer_InnerScaleReader</code>). Requires <code>polkaj-scale-processor</code> as an
+ * annotation processor. For classes not available at compile time use
+ * {@link io.emeraldpay.polkaj.scale.reflect.StructCodec} instead, which builds the codec at runtime.
+ * <br>
+ * Only fields annotated with {@link ScaleField} are encoded, in the order specified by the annotation. A field must be
+ * accessible from the same package, or have a getter and a setter. The class must have a no-arg constructor accessible
+ * from the same package.
+ * <br>
+ * Field types are encoded as:
+ * <ul>
+ *     <li><code>byte</code>, <code>short</code>, <code>int</code>, <code>long</code> - as unsigned integers of the
+ *     same size (u8, u16, u32 and u64), i.e. values with the highest bit set are read as negative numbers</li>
+ *     <li><code>BigInteger</code> and {@link io.emeraldpay.polkaj.types.UInt128} - as u128</li>
+ *     <li><code>boolean</code> - as bool</li>
+ *     <li><code>String</code> - as UTF-8 string</li>
+ *     <li><code>byte[]</code> - as <code>Vec&lt;u8&gt;</code></li>
+ *     <li>{@link io.emeraldpay.polkaj.types.Hash256} - as <code>[u8; 32]</code></li>
+ *     <li><code>List&lt;T&gt;</code> - as <code>Vec&lt;T&gt;</code></li>
+ *     <li>a Java enum annotated with {@link ScaleEnum} - as its index</li>
+ *     <li>another class annotated with {@link ScaleStruct} - with its generated reader and writer</li>
+ * </ul>
+ * The corresponding boxed types are supported as well.
+ *
+ * @see ScaleField
+ * @see ScaleCompact
+ * @see ScaleOptional
+ * @see ScaleEnum
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ScaleStruct {
+}
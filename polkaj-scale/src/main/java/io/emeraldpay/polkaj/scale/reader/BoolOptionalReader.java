@@ -1,11 +1,11 @@
 package io.emeraldpay.polkaj.scale.reader;
 
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
 import java.util.Optional;
 
-public class BoolOptionalReader implements ScaleReader<Optional<Boolean>> {
+public class BoolOptionalReader implements FixedSizeReader<Optional<Boolean>> {
     @Override
     public Optional<Boolean> read(ScaleCodecReader rdr) {
         byte b = rdr.readByte();
@@ -20,4 +20,9 @@ public class BoolOptionalReader implements ScaleReader<Optional<Boolean>> {
         }
         throw new IllegalStateException("Not a boolean option: " + b);
     }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
 }
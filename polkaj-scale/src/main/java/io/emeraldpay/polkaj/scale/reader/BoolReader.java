@@ -1,9 +1,9 @@
 package io.emeraldpay.polkaj.scale.reader;
 
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
-public class BoolReader implements ScaleReader<Boolean> {
+public class BoolReader implements FixedSizeReader<Boolean> {
     @Override
     public Boolean read(ScaleCodecReader rdr) {
         byte b = rdr.readByte();
@@ -15,4 +15,9 @@ public class BoolReader implements ScaleReader<Boolean> {
         }
         throw new IllegalStateException("Not a boolean value: " + b);
     }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
 }
@@ -0,0 +1,52 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ByteSlice;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+/**
+ * Read bytes as a view of the source, without copying them. Reads either a fixed number of bytes (ex. 32 bytes for a hash
+ * or pubkey), or a compact length prefixed byte array if the length is not specified.
+ *
+ * @see ByteSlice
+ */
+public class ByteSliceReader implements ScaleReader<ByteSlice> {
+
+    private final int length;
+
+    /**
+     * Reader for a compact length prefixed byte array
+     */
+    public ByteSliceReader() {
+        this.length = -1;
+    }
+
+    /**
+     * Reader for a fixed size byte array
+     *
+     * @param length size in bytes
+     */
+    public ByteSliceReader(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative: " + length);
+        }
+        this.length = length;
+    }
+
+    @Override
+    public ByteSlice read(ScaleCodecReader rdr) {
+        if (length < 0) {
+            return rdr.readByteSlice();
+        }
+        return rdr.readByteSlice(length);
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        if (length < 0) {
+            rdr.skip(rdr.readCompactInt());
+        } else {
+            rdr.skip(length);
+        }
+    }
+}
@@ -3,23 +3,27 @@ package io.emeraldpay.polkaj.scale.reader;
 import io.emeraldpay.polkaj.scale.CompactMode;
 import io.emeraldpay.polkaj.scale.ScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.types.UInt128;
 
 import java.math.BigInteger;
 
+/**
+ * Read compact encoded unsigned integer of any size. Values that fit into 64 bits are decoded without intermediate
+ * allocations; for an allocation-free read use {@link CompactULongReader} or {@link CompactUInt128Reader}.
+ */
 public class CompactBigIntReader implements ScaleReader<BigInteger> {
 
-    private static final CompactUIntReader intReader = new CompactUIntReader();
-
     @Override
     public BigInteger read(ScaleCodecReader rdr) {
         int type = rdr.readUByte();
-        CompactMode mode = CompactMode.byValue((byte)(type & 0b11));
-        if (mode != CompactMode.BIGINT) {
-            rdr.skip(-1);
-            int value = intReader.read(rdr);
-            return BigInteger.valueOf(value);
-        }
         int len = (type >> 2) + 4;
+        if ((type & 0b11) != CompactMode.BIGINT.getValue() || len <= 8) {
+            long value = CompactULongReader.readUnsigned(rdr, type);
+            if (value >= 0) {
+                return BigInteger.valueOf(value);
+            }
+            return new UInt128(0, value).toBigInteger();
+        }
         byte[] value = rdr.readByteArray(len);
         //LE encoded, so need to reverse it
         for (int i = 0; i < value.length / 2; i++) {
@@ -30,4 +34,9 @@ public class CompactBigIntReader implements ScaleReader<BigInteger> {
         //unsigned, i.e. always positive, signum=1
         return new BigInteger(1, value);
     }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skipCompact();
+    }
 }
@@ -0,0 +1,50 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.CompactMode;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.types.UInt128;
+
+/**
+ * Read compact encoded u128 value (ex. a balance) as {@link UInt128}, i.e. without allocating a BigInteger
+ *
+ * @see CompactBigIntReader
+ */
+public class CompactUInt128Reader implements ScaleReader<UInt128> {
+
+    /**
+     *
+     * @param rdr reader with the encoded data
+     * @return value
+     * @throws UnsupportedOperationException if the value is encoded with more than 16 bytes
+     */
+    @Override
+    public UInt128 read(ScaleCodecReader rdr) {
+        int type = rdr.readUByte();
+        int len = (type >> 2) + 4;
+        if ((type & 0b11) != CompactMode.BIGINT.getValue() || len <= 8) {
+            long value = CompactULongReader.readUnsigned(rdr, type);
+            if (value == 0) {
+                return UInt128.ZERO;
+            }
+            return new UInt128(0, value);
+        }
+        if (len > UInt128.SIZE_BYTES) {
+            throw new UnsupportedOperationException("Value of " + len + " bytes doesn't fit into u128");
+        }
+        long low = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            low |= ((long)rdr.readUByte()) << shift;
+        }
+        long high = 0;
+        for (int shift = 0; shift < (len - 8) * 8; shift += 8) {
+            high |= ((long)rdr.readUByte()) << shift;
+        }
+        return new UInt128(high, low);
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skipCompact();
+    }
+}
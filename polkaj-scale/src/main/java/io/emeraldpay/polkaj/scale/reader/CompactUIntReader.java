@@ -1,19 +1,19 @@
 package io.emeraldpay.polkaj.scale.reader;
 
 import io.emeraldpay.polkaj.scale.CompactMode;
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.IntScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
-public class CompactUIntReader implements ScaleReader<Integer> {
+public class CompactUIntReader implements IntScaleReader {
 
     /**
      *
      * @param rdr reader with the encoded data
      * @return integer value
-     * @throws UnsupportedOperationException if the value is encoded with more than four bytes (use {@link CompactBigIntReader})
+     * @throws UnsupportedOperationException if the value is encoded with more than four bytes (use {@link CompactULongReader} or {@link CompactBigIntReader})
      */
     @Override
-    public Integer read(ScaleCodecReader rdr) {
+    public int readInt(ScaleCodecReader rdr) {
         int i = rdr.readUByte();
         CompactMode mode = CompactMode.byValue((byte)(i & 0b11));
         if (mode == CompactMode.SINGLE) {
@@ -31,4 +31,9 @@ public class CompactUIntReader implements ScaleReader<Integer> {
         }
         throw new UnsupportedOperationException("Mode " + mode  + " is not implemented");
     }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skipCompact();
+    }
 }
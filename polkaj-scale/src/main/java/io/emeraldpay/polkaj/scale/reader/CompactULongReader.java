@@ -0,0 +1,65 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.CompactMode;
+import io.emeraldpay.polkaj.scale.LongScaleReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+
+/**
+ * Read compact encoded unsigned integer that fits into Java <code>long</code>, i.e. up to 2**63-1
+ */
+public class CompactULongReader implements LongScaleReader {
+
+    /**
+     *
+     * @param rdr reader with the encoded data
+     * @return long value
+     * @throws UnsupportedOperationException if the value is larger than 2**63-1 (use {@link CompactBigIntReader})
+     */
+    @Override
+    public long readLong(ScaleCodecReader rdr) {
+        long result = readUnsigned(rdr, rdr.readUByte());
+        if (result < 0) {
+            throw new UnsupportedOperationException("Value doesn't fit into long: " + Long.toUnsignedString(result));
+        }
+        return result;
+    }
+
+    /**
+     * Read the rest of a compact value, which is encoded with up to 8 bytes
+     *
+     * @param rdr reader positioned right after the first byte of the value
+     * @param type the first byte of the value
+     * @return value as unsigned long bits
+     * @throws UnsupportedOperationException if the value is encoded with more than 8 bytes
+     */
+    static long readUnsigned(ScaleCodecReader rdr, int type) {
+        CompactMode mode = CompactMode.byValue((byte)(type & 0b11));
+        if (mode == CompactMode.SINGLE) {
+            return type >> 2;
+        }
+        if (mode == CompactMode.TWO) {
+            return (type >> 2)
+                    + (rdr.readUByte() << 6);
+        }
+        if (mode == CompactMode.FOUR) {
+            return (type >> 2) +
+                    (rdr.readUByte() << 6) +
+                    (rdr.readUByte() << (6 + 8)) +
+                    ((long)rdr.readUByte() << (6 + 2 * 8));
+        }
+        int len = (type >> 2) + 4;
+        if (len > 8) {
+            throw new UnsupportedOperationException("Value of " + len + " bytes doesn't fit into long");
+        }
+        long result = 0;
+        for (int shift = 0; shift < len * 8; shift += 8) {
+            result |= ((long)rdr.readUByte()) << shift;
+        }
+        return result;
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skipCompact();
+    }
+}
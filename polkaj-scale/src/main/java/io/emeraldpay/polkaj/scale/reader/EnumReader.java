@@ -1,7 +1,7 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
-import io.emeraldpay.polkaj.scale.ScaleReader;
 
 /**
  * Read a Java enum value. The reader reads a one byte and returns a Enum value which Ordinal value is equal to it.
@@ -11,9 +11,12 @@ import io.emeraldpay.polkaj.scale.ScaleReader;
  * @param <T> type of Enum
  * @see UnionReader
  */
-public class EnumReader<T extends Enum<?>> implements ScaleReader<T> {
+public class EnumReader<T extends Enum<?>> implements FixedSizeReader<T> {
 
-    private final T[] values;
+    private static final int MAX_VALUES = 256;
+
+    // indexed by the ordinal
+    private final Object[] table = new Object[MAX_VALUES];
 
     /**
      * Define reader by specifying list of possible values. In most of the cases it would be:
@@ -28,17 +31,27 @@ public class EnumReader<T extends Enum<?>> implements ScaleReader<T> {
         if (values.length == 0) {
             throw new IllegalArgumentException("List of enums is empty");
         }
-        this.values = values;
+        for (T t: values) {
+            // values with ordinal above 255 can't be encoded by a single byte anyway
+            if (t.ordinal() < MAX_VALUES) {
+                table[t.ordinal()] = t;
+            }
+        }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T read(ScaleCodecReader rdr) {
         int id = rdr.readUByte();
-        for (T t: values) {
-            if (t.ordinal() == id) {
-                return t;
-            }
+        Object value = table[id];
+        if (value == null) {
+            throw new IllegalStateException("Unknown enum value: " + id);
         }
-        throw new IllegalStateException("Unknown enum value: " + id);
+        return (T) value;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
     }
 }
@@ -0,0 +1,37 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+/**
+ * Read a list of fixed size byte arrays (ex. <code>Vec&lt;[u8; 32]&gt;</code> of account ids) into a single flat
+ * <code>byte[]</code>, where element <code>i</code> starts at <code>i * width</code>.
+ */
+public class FixedBytesArrayReader implements ScaleReader<byte[]> {
+
+    private final int width;
+
+    /**
+     * @param width size of each element in bytes
+     */
+    public FixedBytesArrayReader(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Width must be positive: " + width);
+        }
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public byte[] read(ScaleCodecReader rdr) {
+        return rdr.readByteArray(ULong64ArrayReader.length(rdr.readCompactInt(), width));
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skip(ULong64ArrayReader.length(rdr.readCompactInt(), width));
+    }
+}
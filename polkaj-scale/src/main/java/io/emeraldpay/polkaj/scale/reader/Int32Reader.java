@@ -1,10 +1,8 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.IntScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
-import io.emeraldpay.polkaj.scale.ScaleReader;
-
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 /**
  * Read Java Integer encoded as 4 byte SCALE value. Please note that since Java Integer is signed type, it may
@@ -13,15 +11,14 @@ import java.nio.ByteOrder;
  *
  * @see UInt32Reader
  */
-public class Int32Reader implements ScaleReader<Integer> {
+public class Int32Reader implements IntScaleReader, FixedSizeReader<Integer> {
+    @Override
+    public int readInt(ScaleCodecReader rdr) {
+        return rdr.readInt32();
+    }
+
     @Override
-    public Integer read(ScaleCodecReader rdr) {
-        ByteBuffer buf = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
-        buf.put(rdr.readByte());
-        buf.put(rdr.readByte());
-        buf.put(rdr.readByte());
-        buf.put(rdr.readByte());
-        buf.flip();
-        return buf.getInt();
+    public int getSize() {
+        return 4;
     }
 }
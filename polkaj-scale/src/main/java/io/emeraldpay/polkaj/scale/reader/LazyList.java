@@ -0,0 +1,67 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list which decodes an element only when it's accessed. Created by {@link ListReader#readLazy(ScaleCodecReader)}.
+ * <br>
+ * The list keeps a reference to the source data, and positions of the elements in it. For elements of fixed size
+ * the positions are calculated, otherwise they are found by skipping through the elements when the list is created.
+ * If the list memoizes decoded values, each element is decoded only once. Since the list shares a reader, it's not thread-safe.
+ * <br>
+ * Limits of the original reader are applied to each decoding of an element separately, so the same element can be
+ * accessed any number of times.
+ *
+ * @param <T> type of the element
+ */
+public class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final ScaleCodecReader rdr;
+    private final ScaleReader<T> scaleReader;
+    private final int size;
+    // position of the first element, and size of each element if they are of fixed size
+    private final int base;
+    private final int itemSize;
+    // position of each element, if they are of variable size
+    private final int[] offsets;
+    private final Object[] values;
+
+    LazyList(ScaleCodecReader rdr, ScaleReader<T> scaleReader, int size, int base, int itemSize, int[] offsets, boolean memoize) {
+        this.rdr = rdr;
+        this.scaleReader = scaleReader;
+        this.size = size;
+        this.base = base;
+        this.itemSize = itemSize;
+        this.offsets = offsets;
+        this.values = memoize ? new Object[size] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of list size " + size);
+        }
+        if (values != null && values[index] != null) {
+            return (T) values[index];
+        }
+        int position = offsets != null ? offsets[index] : base + index * itemSize;
+        rdr.skip(position - rdr.getPosition());
+        // the element may be decoded again, so it's not counted together with the previous accesses
+        rdr.resetUsage();
+        T value = rdr.read(scaleReader);
+        if (values != null) {
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -1,26 +1,185 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ListReader<T> implements ScaleReader<List<T>> {
 
+    /**
+     * Max capacity allocated for a list before reading its elements, since the size is not verified by actual data yet
+     */
+    private static final int MAX_PREALLOCATE = 1024;
+
     private ScaleReader<T> scaleReader;
 
     public ListReader(ScaleReader<T> scaleReader) {
         this.scaleReader = scaleReader;
     }
 
+    /**
+     * Read the list. If the reader {@link ScaleCodecReader#keepsProgress() keeps the progress}, a next attempt to read
+     * the list continues after the already read elements.
+     *
+     * @param rdr reader with the encoded data
+     * @return read list
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public List<T> read(ScaleCodecReader rdr) {
-        int size = rdr.readCompactInt();
-        List<T> result = new ArrayList<>(size);
-        for (int i = 0; i < size; i++) {
+        Progress<T> progress = (Progress<T>) rdr.resumeProgress(this);
+        int size;
+        List<T> result;
+        if (progress != null) {
+            size = progress.size;
+            result = progress.items;
+        } else {
+            size = rdr.readCompactInt();
+            rdr.checkElements(size);
+            result = new ArrayList<>(Math.min(size, MAX_PREALLOCATE));
+            if (rdr.keepsProgress()) {
+                progress = new Progress<>(size, result);
+                rdr.keepProgress(this, progress);
+            }
+        }
+        for (int i = result.size(); i < size; i++) {
             result.add(rdr.read(scaleReader));
+            if (progress != null) {
+                rdr.keepProgress(this, progress);
+            }
         }
         return result;
     }
+
+    /**
+     * Skip the list. A list of fixed size elements is skipped at once, without going through each element.
+     *
+     * @param rdr reader with the encoded data
+     */
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        int size = rdr.readCompactInt();
+        if (scaleReader instanceof FixedSizeReader) {
+            long len = (long) size * ((FixedSizeReader<?>) scaleReader).getSize();
+            if (len > Integer.MAX_VALUE) {
+                throw new IllegalStateException("List is too large: " + size);
+            }
+            rdr.skip((int) len);
+        } else {
+            for (int i = 0; i < size; i++) {
+                scaleReader.skip(rdr);
+            }
+        }
+    }
+
+    /**
+     * Read the list without decoding its elements, which are decoded only when accessed. The reader is moved to the end
+     * of the list.
+     *
+     * @param rdr reader with the encoded data, must support {@link ScaleCodecReader#duplicate()}
+     * @return list which decodes the elements on access
+     * @see LazyList
+     */
+    public LazyList<T> readLazy(ScaleCodecReader rdr) {
+        return readLazy(rdr, false);
+    }
+
+    /**
+     * Read the list without decoding its elements, which are decoded only when accessed. The reader is moved to the end
+     * of the list.
+     *
+     * @param rdr reader with the encoded data, must support {@link ScaleCodecReader#duplicate()}
+     * @param memoize if true the list keeps decoded elements, otherwise an element is decoded on each access
+     * @return list which decodes the elements on access
+     * @see LazyList
+     */
+    public LazyList<T> readLazy(ScaleCodecReader rdr, boolean memoize) {
+        int size = rdr.readCompactInt();
+        rdr.checkElements(size);
+        ScaleCodecReader copy = rdr.duplicate();
+        int base = rdr.getPosition();
+        if (scaleReader instanceof FixedSizeReader) {
+            int itemSize = ((FixedSizeReader<?>) scaleReader).getSize();
+            long len = (long) size * itemSize;
+            if (len > Integer.MAX_VALUE) {
+                throw new IllegalStateException("List is too large: " + size);
+            }
+            rdr.skip((int) len);
+            return new LazyList<>(copy, scaleReader, size, base, itemSize, null, memoize);
+        }
+        // the size is not verified yet, so don't allocate the full index until the elements are actually there
+        int[] offsets = new int[Math.min(size, MAX_PREALLOCATE)];
+        for (int i = 0; i < size; i++) {
+            if (i == offsets.length) {
+                offsets = Arrays.copyOf(offsets, (int) Math.min((long) offsets.length * 2, size));
+            }
+            offsets[i] = rdr.getPosition();
+            scaleReader.skip(rdr);
+        }
+        return new LazyList<>(copy, scaleReader, size, base, 0, offsets, memoize);
+    }
+
+    /**
+     * Read the list element by element, i.e. without keeping all of them in memory. Reads the size of the list
+     * immediately, and each element when it's requested from the iterator. The reader must not be used for anything
+     * else until the iteration is finished.
+     *
+     * @param rdr reader with the encoded data
+     * @return iterator over the list elements
+     */
+    public Iterator<T> iterator(ScaleCodecReader rdr) {
+        final int size = rdr.readCompactInt();
+        rdr.checkElements(size);
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                index++;
+                return rdr.read(scaleReader);
+            }
+        };
+    }
+
+    /**
+     * Read the list as a sequential stream of elements, each one is read only when the stream consumes it
+     *
+     * @param rdr reader with the encoded data
+     * @return stream of the list elements
+     * @see #iterator(ScaleCodecReader)
+     */
+    public Stream<T> stream(ScaleCodecReader rdr) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(rdr), Spliterator.ORDERED),
+                false
+        );
+    }
+
+    private static class Progress<T> {
+        private final int size;
+        private final List<T> items;
+
+        Progress(int size, List<T> items) {
+            this.size = size;
+            this.items = items;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+import java.util.Optional;
+
+/**
+ * Read an optional value, i.e. Rust <code>Option&lt;T&gt;</code>.
+ *
+ * @param <T> type of the value
+ * @see ScaleCodecReader#readOptional(ScaleReader)
+ */
+public class OptionalReader<T> implements ScaleReader<Optional<T>> {
+
+    private final ScaleReader<T> scaleReader;
+
+    public OptionalReader(ScaleReader<T> scaleReader) {
+        if (scaleReader == null) {
+            throw new NullPointerException("ScaleReader is null");
+        }
+        this.scaleReader = scaleReader;
+    }
+
+    @Override
+    public Optional<T> read(ScaleCodecReader rdr) {
+        return rdr.readOptional(scaleReader);
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        if (scaleReader instanceof BoolReader || scaleReader instanceof BoolOptionalReader) {
+            rdr.skip(1);
+        } else if (rdr.readBoolean()) {
+            scaleReader.skip(rdr);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads only selected fields of a struct, and skips the other fields. Consecutive skipped fields of fixed size are skipped
+ * at once, i.e. only by moving the position of the reader.
+ * <br>
+ * Example, read only destination and amount of a balance transfer call:
+ * <pre><code>
+ * ProjectionReader&lt;Deposit&gt; reader = ProjectionReader.builder()
+ *     .skip(2) // module and call index
+ *     .field(new MultiAddressReader())
+ *     .field(ScaleCodecReader.COMPACT_BIGINT)
+ *     .build((values) -&gt; new Deposit((UnionValue&lt;MultiAddress&gt;) values[0], (BigInteger) values[1]));
+ * </code></pre>
+ *
+ * @param <T> type of the result
+ */
+public class ProjectionReader<T> implements ScaleReader<T> {
+
+    private final Step[] steps;
+    private final int selected;
+    private final Function<Object[], T> mapper;
+
+    private ProjectionReader(List<Step> steps, Function<Object[], T> mapper) {
+        this.steps = steps.toArray(new Step[0]);
+        int selected = 0;
+        for (Step step: steps) {
+            if (step.keep) {
+                selected++;
+            }
+        }
+        this.selected = selected;
+        this.mapper = mapper;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reads the struct
+     *
+     * @param rdr reader with the encoded data
+     * @return result of the mapper function applied to the values of selected fields
+     */
+    @Override
+    public T read(ScaleCodecReader rdr) {
+        Object[] values = new Object[selected];
+        int index = 0;
+        for (Step step: steps) {
+            if (step.keep) {
+                values[index++] = rdr.read(step.reader);
+            } else if (step.reader != null) {
+                step.reader.skip(rdr);
+            } else {
+                rdr.skip(step.size);
+            }
+        }
+        return mapper.apply(values);
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        for (Step step: steps) {
+            if (step.reader != null) {
+                step.reader.skip(rdr);
+            } else {
+                rdr.skip(step.size);
+            }
+        }
+    }
+
+    private static class Step {
+        private final ScaleReader<?> reader;
+        private final int size;
+        private final boolean keep;
+
+        Step(ScaleReader<?> reader, int size, boolean keep) {
+            this.reader = reader;
+            this.size = size;
+            this.keep = keep;
+        }
+    }
+
+    public static class Builder {
+
+        private final List<Step> steps = new ArrayList<>();
+
+        /**
+         * Add a field to read
+         *
+         * @param reader reader for the field
+         * @return builder
+         */
+        public Builder field(ScaleReader<?> reader) {
+            if (reader == null) {
+                throw new NullPointerException("ScaleReader is null");
+            }
+            steps.add(new Step(reader, 0, true));
+            return this;
+        }
+
+        /**
+         * Add a field to skip
+         *
+         * @param reader reader for the field
+         * @return builder
+         */
+        public Builder skip(ScaleReader<?> reader) {
+            if (reader == null) {
+                throw new NullPointerException("ScaleReader is null");
+            }
+            if (reader instanceof FixedSizeReader) {
+                return skip(((FixedSizeReader<?>) reader).getSize());
+            }
+            steps.add(new Step(reader, 0, false));
+            return this;
+        }
+
+        /**
+         * Add a fixed amount of bytes to skip
+         *
+         * @param size amount of bytes
+         * @return builder
+         */
+        public Builder skip(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Size cannot be negative: " + size);
+            }
+            int last = steps.size() - 1;
+            if (last >= 0 && steps.get(last).reader == null) {
+                // join with the previous fixed size skip
+                size += steps.remove(last).size;
+            }
+            steps.add(new Step(null, size, false));
+            return this;
+        }
+
+        /**
+         *
+         * @param mapper function to create the result from values of selected fields, in the order they were added
+         * @param <T> type of the result
+         * @return reader
+         */
+        public <T> ProjectionReader<T> build(Function<Object[], T> mapper) {
+            if (mapper == null) {
+                throw new NullPointerException("Mapper is null");
+            }
+            return new ProjectionReader<>(steps, mapper);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.Spanned;
+
+/**
+ * Reads a value together with the exact bytes it was decoded from, ex. to hash the call of an extrinsic or to pass
+ * an extrinsic from a block body further as is.
+ *
+ * @param <T> type of the value
+ * @see ScaleCodecReader#readSpanned(ScaleReader)
+ */
+public class SpannedReader<T> implements ScaleReader<Spanned<T>> {
+
+    private final ScaleReader<T> reader;
+
+    public SpannedReader(ScaleReader<T> reader) {
+        if (reader == null) {
+            throw new NullPointerException("ScaleReader is null");
+        }
+        this.reader = reader;
+    }
+
+    @Override
+    public Spanned<T> read(ScaleCodecReader rdr) {
+        return rdr.readSpanned(reader);
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        reader.skip(rdr);
+    }
+}
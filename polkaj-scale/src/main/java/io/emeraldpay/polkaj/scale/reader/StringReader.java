@@ -1,14 +1,84 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.ByteSlice;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 import io.emeraldpay.polkaj.scale.ScaleReader;
 
 /**
  * Read string, encoded as UTF-8 bytes
+ * <br>
+ * A reader created with a cache size keeps recently read short strings, such as names of modules, calls and fields
+ * in metadata and events, and returns the same String instance when the same bytes are read again, without decoding
+ * them. The cache is bounded, and an entry is replaced by another string with the same hash slot. It's safe to
+ * share the reader between threads.
  */
 public class StringReader implements ScaleReader<String> {
+
+    /**
+     * Strings longer than this (in bytes) are never cached
+     */
+    public static final int MAX_CACHED_LENGTH = 64;
+
+    private final Entry[] cache;
+    private final int mask;
+
+    /**
+     * Create a reader without a cache
+     */
+    public StringReader() {
+        this.cache = null;
+        this.mask = 0;
+    }
+
+    /**
+     * Create a reader with a cache of canonical instances of strings
+     *
+     * @param cacheSize max amount of strings kept in the cache, rounded up to a power of two
+     */
+    public StringReader(int cacheSize) {
+        if (cacheSize <= 0 || cacheSize > 1 << 20) {
+            throw new IllegalArgumentException("Cache size must be in 1..1048576 range: " + cacheSize);
+        }
+        int size = Integer.highestOneBit(cacheSize);
+        if (size < cacheSize) {
+            size <<= 1;
+        }
+        this.cache = new Entry[size];
+        this.mask = size - 1;
+    }
+
     @Override
     public String read(ScaleCodecReader rdr) {
-        return rdr.readString();
+        ByteSlice bytes = rdr.readTransientSlice();
+        if (cache == null || bytes.length() > MAX_CACHED_LENGTH) {
+            return bytes.toUtf8String();
+        }
+        int hash = bytes.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = cache[slot];
+        if (entry != null && entry.hash == hash && bytes.contentEquals(entry.bytes)) {
+            return entry.value;
+        }
+        String value = bytes.toUtf8String();
+        // an unsynchronized write is fine, since an entry is immutable and another thread may just miss it
+        cache[slot] = new Entry(hash, bytes.toByteArray(), value);
+        return value;
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skip(rdr.readCompactInt());
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+
+        Entry(int hash, byte[] bytes, String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
     }
 }
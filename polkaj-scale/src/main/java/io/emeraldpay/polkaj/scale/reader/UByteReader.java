@@ -1,15 +1,17 @@
 package io.emeraldpay.polkaj.scale.reader;
 
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.IntScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
-public class UByteReader implements ScaleReader<Integer> {
+public class UByteReader implements IntScaleReader, FixedSizeReader<Integer> {
     @Override
-    public Integer read(ScaleCodecReader rdr) {
-        byte x = rdr.readByte();
-        if (x < 0) {
-            return 256 + (int)x;
-        }
-        return (int)x;
+    public int readInt(ScaleCodecReader rdr) {
+        return rdr.readByte() & 0xff;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
     }
 }
@@ -0,0 +1,33 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ByteSlice;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.types.UInt128;
+
+/**
+ * Read a list of unsigned 128 bit integers (i.e. <code>Vec&lt;u128&gt;</code>) into a flat <code>long[]</code> at once.
+ * Each value takes two elements of the array, the lower and the upper 64 bits in this order, i.e. value <code>i</code>
+ * is <code>new UInt128(result[i * 2 + 1], result[i * 2])</code>.
+ *
+ * @see UInt128
+ */
+public class UInt128ArrayReader implements ScaleReader<long[]> {
+
+    @Override
+    public long[] read(ScaleCodecReader rdr) {
+        int size = rdr.readCompactInt();
+        rdr.checkElements(size);
+        int len = ULong64ArrayReader.length(size, UInt128.SIZE_BYTES);
+        // read the data first, to make sure the size is valid before allocating the array
+        ByteSlice data = rdr.readTransientSlice(len);
+        long[] result = new long[len / 8];
+        data.asByteBuffer().asLongBuffer().get(result);
+        return result;
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skip(ULong64ArrayReader.length(rdr.readCompactInt(), UInt128.SIZE_BYTES));
+    }
+}
@@ -1,14 +1,21 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
-import io.emeraldpay.polkaj.scale.ScaleReader;
 
 import java.math.BigInteger;
 
-public class UInt128Reader implements ScaleReader<BigInteger> {
+/**
+ * Read unsigned 128 bit integer as BigInteger
+ *
+ * @see UInt128ValueReader
+ */
+public class UInt128Reader implements FixedSizeReader<BigInteger> {
 
     public static final int SIZE_BYTES = 16;
 
+    private static final UInt128ValueReader VALUE_READER = new UInt128ValueReader();
+
     public static void reverse(byte[] value) {
         for (int i = 0; i < value.length / 2; i++) {
             int other = value.length - i - 1;
@@ -20,8 +27,11 @@ public class UInt128Reader implements ScaleReader<BigInteger> {
 
     @Override
     public BigInteger read(ScaleCodecReader rdr) {
-        byte[] value = rdr.readByteArray(SIZE_BYTES);
-        reverse(value);
-        return new BigInteger(1, value);
+        return VALUE_READER.read(rdr).toBigInteger();
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE_BYTES;
     }
 }
@@ -0,0 +1,30 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.types.UInt128;
+
+/**
+ * Read unsigned 128 bit integer as {@link UInt128}, i.e. without allocating a BigInteger
+ *
+ * @see UInt128Reader
+ */
+public class UInt128ValueReader implements FixedSizeReader<UInt128> {
+
+    private static final ULong64Reader LONG_READER = new ULong64Reader();
+
+    @Override
+    public UInt128 read(ScaleCodecReader rdr) {
+        long low = LONG_READER.readLong(rdr);
+        long high = LONG_READER.readLong(rdr);
+        if (high == 0 && low == 0) {
+            return UInt128.ZERO;
+        }
+        return new UInt128(high, low);
+    }
+
+    @Override
+    public int getSize() {
+        return UInt128.SIZE_BYTES;
+    }
+}
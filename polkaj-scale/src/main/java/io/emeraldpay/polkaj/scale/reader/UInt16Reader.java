@@ -1,16 +1,21 @@
 package io.emeraldpay.polkaj.scale.reader;
 
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.IntScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
-public class UInt16Reader implements ScaleReader<Integer> {
+public class UInt16Reader implements IntScaleReader, FixedSizeReader<Integer> {
 
     @Override
-    public Integer read(ScaleCodecReader rdr) {
+    public int readInt(ScaleCodecReader rdr) {
         int result = 0;
         result += rdr.readUByte();
         result += rdr.readUByte() << 8;
         return result;
     }
 
+    @Override
+    public int getSize() {
+        return 2;
+    }
 }
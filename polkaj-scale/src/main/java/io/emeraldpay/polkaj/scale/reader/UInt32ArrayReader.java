@@ -0,0 +1,29 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ByteSlice;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+/**
+ * Read a list of unsigned 32 bit integers (i.e. <code>Vec&lt;u32&gt;</code>) into an <code>int[]</code> at once. Values
+ * larger than 2**31-1 are read as negative numbers with the same bits, use {@link Integer#toUnsignedLong(int)} to get
+ * the actual value.
+ */
+public class UInt32ArrayReader implements ScaleReader<int[]> {
+
+    @Override
+    public int[] read(ScaleCodecReader rdr) {
+        int size = rdr.readCompactInt();
+        rdr.checkElements(size);
+        // read the data first, to make sure the size is valid before allocating the array
+        ByteSlice data = rdr.readTransientSlice(ULong64ArrayReader.length(size, 4));
+        int[] result = new int[size];
+        data.asByteBuffer().asIntBuffer().get(result);
+        return result;
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skip(ULong64ArrayReader.length(rdr.readCompactInt(), 4));
+    }
+}
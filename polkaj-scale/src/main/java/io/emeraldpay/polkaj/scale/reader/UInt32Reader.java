@@ -1,16 +1,17 @@
 package io.emeraldpay.polkaj.scale.reader;
 
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.LongScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 
-public class UInt32Reader implements ScaleReader<Long> {
+public class UInt32Reader implements LongScaleReader, FixedSizeReader<Long> {
     @Override
-    public Long read(ScaleCodecReader rdr) {
-        long result = 0;
-        result += (long)rdr.readUByte();
-        result += ((long)rdr.readUByte()) << 8;
-        result += ((long)rdr.readUByte()) << (2 * 8);
-        result += ((long)rdr.readUByte()) << (3 * 8);
-        return result;
+    public long readLong(ScaleCodecReader rdr) {
+        return rdr.readInt32() & 0xffffffffL;
+    }
+
+    @Override
+    public int getSize() {
+        return 4;
     }
 }
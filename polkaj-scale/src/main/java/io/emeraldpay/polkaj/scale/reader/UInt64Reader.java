@@ -1,22 +1,31 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
-import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.types.UInt128;
+
 import java.math.BigInteger;
 
-public class UInt64Reader implements ScaleReader<BigInteger> {
+/**
+ * Read unsigned 64 bit integer as BigInteger
+ *
+ * @see ULong64Reader
+ */
+public class UInt64Reader implements FixedSizeReader<BigInteger> {
+
+  private static final ULong64Reader LONG_READER = new ULong64Reader();
 
   @Override
   public BigInteger read(ScaleCodecReader rdr) {
-    BigInteger result = BigInteger.ZERO;
-    result = result.add(BigInteger.valueOf(rdr.readUByte()));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(8));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(16));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(24));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(32));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(40));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(48));
-    result = result.add(BigInteger.valueOf(rdr.readUByte()).shiftLeft(56));
-    return result;
+    long value = LONG_READER.readLong(rdr);
+    if (value >= 0) {
+      return BigInteger.valueOf(value);
+    }
+    return new UInt128(0, value).toBigInteger();
+  }
+
+  @Override
+  public int getSize() {
+    return 8;
   }
 }
@@ -0,0 +1,38 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.ByteSlice;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+
+/**
+ * Read a list of unsigned 64 bit integers (i.e. <code>Vec&lt;u64&gt;</code>) into a <code>long[]</code> at once. Values
+ * larger than 2**63-1 are read as negative numbers with the same bits.
+ *
+ * @see ULong64Reader
+ */
+public class ULong64ArrayReader implements ScaleReader<long[]> {
+
+    @Override
+    public long[] read(ScaleCodecReader rdr) {
+        int size = rdr.readCompactInt();
+        rdr.checkElements(size);
+        // read the data first, to make sure the size is valid before allocating the array
+        ByteSlice data = rdr.readTransientSlice(length(size, 8));
+        long[] result = new long[size];
+        data.asByteBuffer().asLongBuffer().get(result);
+        return result;
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        rdr.skip(length(rdr.readCompactInt(), 8));
+    }
+
+    static int length(int size, int itemSize) {
+        long len = (long) size * itemSize;
+        if (len > Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is too large: " + size);
+        }
+        return (int) len;
+    }
+}
@@ -0,0 +1,25 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.LongScaleReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+
+/**
+ * Read unsigned 64 bit integer as Java long. Values larger than 2**63-1 are read as negative numbers with the same
+ * bits, i.e. the result should be handled with unsigned operations such as {@link Long#toUnsignedString(long)} or
+ * {@link Long#compareUnsigned(long, long)}.
+ *
+ * @see UInt64Reader
+ */
+public class ULong64Reader implements LongScaleReader, FixedSizeReader<Long> {
+
+    @Override
+    public long readLong(ScaleCodecReader rdr) {
+        return rdr.readInt64();
+    }
+
+    @Override
+    public int getSize() {
+        return 8;
+    }
+}
@@ -1,17 +1,43 @@
 package io.emeraldpay.polkaj.scale.reader;
 
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
 import io.emeraldpay.polkaj.scale.ScaleReader;
 import io.emeraldpay.polkaj.scale.ScaleCodecReader;
 import io.emeraldpay.polkaj.scale.UnionValue;
 
 import java.util.*;
 
+/**
+ * Read a union value, i.e. Rust style enum, which is encoded as one byte index of the type and the value of that type.
+ * <br>
+ * The readers are kept in a table indexed by the type byte. A variant without data, i.e. with a reader of zero
+ * {@link FixedSizeReader#getSize()} such as {@link UnitReader}, is read only once and the same immutable
+ * {@link UnionValue} is returned for it each time. To read a union without wrapping the value into
+ * {@link UnionValue} use {@link ScaleCodecReader#readUnion(io.emeraldpay.polkaj.scale.UnionVisitor)}.
+ *
+ * @param <T> common type of the values
+ */
 public class UnionReader<T> implements ScaleReader<UnionValue<T>> {
 
-    private final List<ScaleReader<? extends T>> mapping;
+    private static final int MAX_TYPES = 256;
 
+    private final ScaleReader<? extends T>[] table;
+    private final UnionValue<T>[] units;
+
+    @SuppressWarnings("unchecked")
     public UnionReader(List<ScaleReader<? extends T>> mapping) {
-        this.mapping = mapping;
+        if (mapping.size() > MAX_TYPES) {
+            throw new IllegalArgumentException("Union can have max " + MAX_TYPES + " types. Has: " + mapping.size());
+        }
+        this.table = new ScaleReader[MAX_TYPES];
+        this.units = new UnionValue[MAX_TYPES];
+        for (int i = 0; i < mapping.size(); i++) {
+            ScaleReader<? extends T> reader = mapping.get(i);
+            table[i] = reader;
+            if (reader instanceof FixedSizeReader && ((FixedSizeReader<?>) reader).getSize() == 0) {
+                units[i] = new UnionValue<>(i, reader.read(new ScaleCodecReader(new byte[0])));
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -20,13 +46,25 @@ public class UnionReader<T> implements ScaleReader<UnionValue<T>> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public UnionValue<T> read(ScaleCodecReader rdr) {
         int index = rdr.readUByte();
-        if (mapping.size() <= index) {
+        UnionValue<T> unit = units[index];
+        if (unit != null) {
+            return unit;
+        }
+        return new UnionValue<>(index, rdr.read(getReader(index)));
+    }
+
+    @Override
+    public void skip(ScaleCodecReader rdr) {
+        getReader(rdr.readUByte()).skip(rdr);
+    }
+
+    private ScaleReader<? extends T> getReader(int index) {
+        ScaleReader<? extends T> reader = table[index];
+        if (reader == null) {
             throw new IllegalStateException("Unknown type index: " + index);
         }
-        T value = (T) mapping.get(index).read(rdr);
-        return new UnionValue<>(index, value);
+        return reader;
     }
 }
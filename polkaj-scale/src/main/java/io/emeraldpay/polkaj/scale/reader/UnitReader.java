@@ -0,0 +1,32 @@
+package io.emeraldpay.polkaj.scale.reader;
+
+import io.emeraldpay.polkaj.scale.FixedSizeReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+
+/**
+ * Reader for a value without data, ex. a Rust enum variant without fields. Doesn't read anything and returns the
+ * same value each time.
+ *
+ * @param <T> type of the value
+ */
+public class UnitReader<T> implements FixedSizeReader<T> {
+
+    private final T value;
+
+    /**
+     * @param value value to return, should be immutable
+     */
+    public UnitReader(T value) {
+        this.value = value;
+    }
+
+    @Override
+    public T read(ScaleCodecReader rdr) {
+        return value;
+    }
+
+    @Override
+    public int getSize() {
+        return 0;
+    }
+}
@@ -0,0 +1,478 @@
+package io.emeraldpay.polkaj.scale.reflect;
+
+import io.emeraldpay.polkaj.scale.IntScaleReader;
+import io.emeraldpay.polkaj.scale.IntScaleWriter;
+import io.emeraldpay.polkaj.scale.LongScaleReader;
+import io.emeraldpay.polkaj.scale.LongScaleWriter;
+import io.emeraldpay.polkaj.scale.ScaleCodecReader;
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleReader;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.annotation.ScaleCompact;
+import io.emeraldpay.polkaj.scale.annotation.ScaleEnum;
+import io.emeraldpay.polkaj.scale.annotation.ScaleField;
+import io.emeraldpay.polkaj.scale.annotation.ScaleOptional;
+import io.emeraldpay.polkaj.scale.annotation.ScaleStruct;
+import io.emeraldpay.polkaj.scale.reader.CompactUInt128Reader;
+import io.emeraldpay.polkaj.scale.reader.EnumReader;
+import io.emeraldpay.polkaj.scale.reader.ListReader;
+import io.emeraldpay.polkaj.scale.reader.UInt128ValueReader;
+import io.emeraldpay.polkaj.scale.reader.ULong64Reader;
+import io.emeraldpay.polkaj.scale.writer.CompactUInt128Writer;
+import io.emeraldpay.polkaj.scale.writer.ListWriter;
+import io.emeraldpay.polkaj.scale.writer.UInt128ValueWriter;
+import io.emeraldpay.polkaj.scale.writer.ULong64Writer;
+import io.emeraldpay.polkaj.types.Hash256;
+import io.emeraldpay.polkaj.types.UInt128;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * SCALE reader and writer for a class annotated with {@link ScaleStruct}, built at runtime. It's an alternative to
+ * the codecs generated by <code>polkaj-scale-processor</code> for classes which are not available at compile time,
+ * ex. loaded from plugins, and supports the same annotations and field types.
+ * <br>
+ * A class is inspected only once, when {@link #of(Class)} is called for it first time. Fields are accessed through
+ * method handles typed to the actual field type, and primitive fields are read and written without boxing.
+ * <br>
+ * The fields are not interpreted one by one. For each struct the field accessors and their readers and writers are
+ * composed into one method handle per operation (read, write and size), so there is no per-field virtual dispatch.
+ * HotSpot customizes a method handle which is invoked often enough, and compiles the whole composition with
+ * the bound readers and writers as constants. It still goes through a few more indirections than the code generated by
+ * <code>polkaj-scale-processor</code>, which should be preferred when the class is known at compile time.
+ *
+ * @param <T> type of the struct
+ */
+public class StructCodec<T> implements ScaleReader<T>, ScaleWriter<T> {
+
+    private static final ClassValue<StructCodec<?>> CACHE = new ClassValue<StructCodec<?>>() {
+        @Override
+        protected StructCodec<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private static final IntScaleWriter UINT32_BITS = new IntScaleWriter() {
+        @Override
+        public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
+            ScaleCodecWriter.ULONG32.writeLong(wrt, value & 0xffffffffL);
+        }
+
+        @Override
+        public int encodedSize(int value) {
+            return 4;
+        }
+    };
+    private static final IntScaleWriter UINT16_BITS = new IntScaleWriter() {
+        @Override
+        public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
+            ScaleCodecWriter.UINT16.writeInt(wrt, value & 0xffff);
+        }
+
+        @Override
+        public int encodedSize(int value) {
+            return 2;
+        }
+    };
+    private static final ULong64Reader ULONG64_READER = new ULong64Reader();
+    private static final ULong64Writer ULONG64_WRITER = new ULong64Writer();
+
+    private static final MethodHandle READ_BYTE = find(ScaleCodecReader.class, "readByte", byte.class);
+    private static final MethodHandle READ_BOOLEAN = find(ScaleCodecReader.class, "readBoolean", boolean.class);
+    private static final MethodHandle READ_VALUE = find(ScaleCodecReader.class, "read", Object.class, ScaleReader.class);
+    private static final MethodHandle READ_INT = find(IntScaleReader.class, "readInt", int.class, ScaleCodecReader.class);
+    private static final MethodHandle READ_LONG = find(LongScaleReader.class, "readLong", long.class, ScaleCodecReader.class);
+    private static final MethodHandle WRITE_INT = find(IntScaleWriter.class, "writeInt", void.class, ScaleCodecWriter.class, int.class);
+    private static final MethodHandle WRITE_LONG = find(LongScaleWriter.class, "writeLong", void.class, ScaleCodecWriter.class, long.class);
+    private static final MethodHandle WRITE_VALUE = find(ScaleWriter.class, "write", void.class, ScaleCodecWriter.class, Object.class);
+    private static final MethodHandle INT_SIZE = find(IntScaleWriter.class, "encodedSize", int.class, int.class);
+    private static final MethodHandle LONG_SIZE = find(LongScaleWriter.class, "encodedSize", int.class, long.class);
+    private static final MethodHandle VALUE_SIZE = find(ScaleWriter.class, "encodedSize", int.class, Object.class);
+    private static final MethodHandle READ_SHORT = findStatic("readShort", short.class, ScaleCodecReader.class);
+    private static final MethodHandle WRITE_BYTE = findStatic("writeByte", void.class, ScaleCodecWriter.class, byte.class);
+    private static final MethodHandle WRITE_BOOLEAN = findStatic("writeBoolean", void.class, ScaleCodecWriter.class, boolean.class);
+    private static final MethodHandle ADD_SIZE = findStatic("addSize", long.class, long.class, int.class);
+
+    private final Class<T> type;
+    private final MethodHandle reader;
+    private final MethodHandle writer;
+    private final MethodHandle size;
+
+    private StructCodec(Class<T> type, MethodHandle reader, MethodHandle writer, MethodHandle size) {
+        this.type = type;
+        this.reader = reader;
+        this.writer = writer;
+        this.size = size;
+    }
+
+    /**
+     * Get a codec for the class, which is created on the first call and cached after that
+     *
+     * @param type class annotated with {@link ScaleStruct}
+     * @param <T> type of the struct
+     * @return codec for the class
+     * @throws IllegalArgumentException if the class cannot be encoded
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> StructCodec<T> of(Class<T> type) {
+        return (StructCodec<T>) CACHE.get(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public T read(ScaleCodecReader rdr) {
+        Object value;
+        try {
+            value = (Object) reader.invokeExact(rdr);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        return type.cast(value);
+    }
+
+    @Override
+    public void write(ScaleCodecWriter wrt, T value) throws IOException {
+        try {
+            writer.invokeExact(wrt, (Object) value);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return size of the encoded struct, or {@link #UNKNOWN_SIZE} if it has a field with unknown size, such as a String
+     */
+    @Override
+    public int encodedSize(T value) {
+        long result;
+        try {
+            result = (long) size.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        if (result < 0 || result > Integer.MAX_VALUE) {
+            return UNKNOWN_SIZE;
+        }
+        return (int) result;
+    }
+
+    private static <T> StructCodec<T> create(Class<T> type) {
+        if (type.getAnnotation(ScaleStruct.class) == null) {
+            throw new IllegalArgumentException("Class is not annotated with @ScaleStruct: " + type.getName());
+        }
+        if (type.getTypeParameters().length > 0) {
+            throw new IllegalArgumentException("Generic classes are not supported: " + type.getName());
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor;
+        try {
+            Constructor<T> noArgs = type.getDeclaredConstructor();
+            noArgs.setAccessible(true);
+            constructor = lookup.unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("No accessible no-arg constructor in " + type.getName(), e);
+        }
+
+        List<Field> selected = new ArrayList<>();
+        Map<Integer, Field> orders = new HashMap<>();
+        for (Field field: type.getDeclaredFields()) {
+            ScaleField annotation = field.getAnnotation(ScaleField.class);
+            if (annotation == null) {
+                continue;
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalArgumentException("@ScaleField cannot be static: " + field);
+            }
+            Field existing = orders.put(annotation.value(), field);
+            if (existing != null) {
+                throw new IllegalArgumentException("Fields " + existing.getName() + " and " + field.getName() + " have the same order");
+            }
+            selected.add(field);
+        }
+        selected.sort(Comparator.comparingInt(f -> f.getAnnotation(ScaleField.class).value()));
+
+        // (target, rdr) -> target, (wrt, target) -> void and (target) -> size, with the fields folded in front
+        MethodHandle reader = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, ScaleCodecReader.class);
+        MethodHandle writer = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 0, ScaleCodecWriter.class)
+                .asType(MethodType.methodType(void.class, ScaleCodecWriter.class, Object.class));
+        MethodHandle size = MethodHandles.dropArguments(MethodHandles.constant(long.class, 0L), 0, Object.class);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            FieldCodec field = createField(lookup, selected.get(i));
+            reader = MethodHandles.foldArguments(reader, field.read);
+            writer = MethodHandles.foldArguments(writer, field.write);
+            size = MethodHandles.permuteArguments(
+                    MethodHandles.filterArguments(ADD_SIZE, 0, size, field.size),
+                    MethodType.methodType(long.class, Object.class), 0, 0
+            );
+        }
+        reader = MethodHandles.foldArguments(reader, constructor);
+        return new StructCodec<>(type, reader, writer, size);
+    }
+
+    private static FieldCodec createField(MethodHandles.Lookup lookup, Field field) {
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            field.setAccessible(true);
+            getter = lookup.unreflectGetter(field);
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Field is not accessible: " + field, e);
+        }
+        Class<?> fieldType = field.getType();
+        boolean compact = field.getAnnotation(ScaleCompact.class) != null;
+        boolean optional = field.getAnnotation(ScaleOptional.class) != null;
+        if (fieldType.isPrimitive()) {
+            if (optional) {
+                throw new IllegalArgumentException("@ScaleOptional cannot be used with a primitive type: " + field);
+            }
+            if (compact && fieldType != int.class && fieldType != long.class) {
+                throw new IllegalArgumentException("@ScaleCompact cannot be used with " + fieldType + ": " + field);
+            }
+            if (field.getAnnotation(ScaleEnum.class) != null) {
+                throw new IllegalArgumentException("@ScaleEnum cannot be used with " + fieldType + ": " + field);
+            }
+            if (fieldType == byte.class) {
+                return new FieldCodec(getter, setter, byte.class, READ_BYTE, WRITE_BYTE, fixedSize(byte.class, 1));
+            } else if (fieldType == short.class) {
+                return new FieldCodec(getter, setter, short.class, READ_SHORT,
+                        WRITE_INT.bindTo(UINT16_BITS).asType(MethodType.methodType(void.class, ScaleCodecWriter.class, short.class)),
+                        fixedSize(short.class, 2));
+            } else if (fieldType == int.class) {
+                IntScaleReader reader = compact ? ScaleCodecReader.COMPACT_UINT : ScaleCodecReader.INT32;
+                IntScaleWriter writer = compact ? ScaleCodecWriter.COMPACT_UINT : UINT32_BITS;
+                return new FieldCodec(getter, setter, int.class, READ_INT.bindTo(reader), WRITE_INT.bindTo(writer), INT_SIZE.bindTo(writer));
+            } else if (fieldType == long.class) {
+                LongScaleReader reader = compact ? ScaleCodecReader.COMPACT_ULONG : ULONG64_READER;
+                LongScaleWriter writer = compact ? ScaleCodecWriter.COMPACT_ULONG : ULONG64_WRITER;
+                return new FieldCodec(getter, setter, long.class, READ_LONG.bindTo(reader), WRITE_LONG.bindTo(writer), LONG_SIZE.bindTo(writer));
+            } else if (fieldType == boolean.class) {
+                return new FieldCodec(getter, setter, boolean.class, READ_BOOLEAN, WRITE_BOOLEAN, fixedSize(boolean.class, 1));
+            }
+            throw new IllegalArgumentException("Type is not supported by SCALE codec: " + fieldType + ": " + field);
+        }
+        Codec<?> codec = getCodec(field, field.getGenericType(), true);
+        if (optional) {
+            codec = codec.optional();
+        }
+        return new FieldCodec(getter, setter, Object.class,
+                MethodHandles.insertArguments(READ_VALUE, 1, codec.reader),
+                WRITE_VALUE.bindTo(codec.writer),
+                VALUE_SIZE.bindTo(codec.writer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<?> getCodec(Field field, Type type, boolean topLevel) {
+        boolean compact = field.getAnnotation(ScaleCompact.class) != null;
+        boolean isEnum = field.getAnnotation(ScaleEnum.class) != null;
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            if (!topLevel || parameterized.getRawType() != List.class) {
+                throw new IllegalArgumentException("Type is not supported by SCALE codec: " + type + ": " + field);
+            }
+            Codec<Object> element = (Codec<Object>) getCodec(field, parameterized.getActualTypeArguments()[0], false);
+            return new Codec<>(new ListReader<>(element.reader), new ListWriter<>(element.writer));
+        }
+        if (!(type instanceof Class)) {
+            throw new IllegalArgumentException("Type is not supported by SCALE codec: " + type + ": " + field);
+        }
+        Class<?> clazz = (Class<?>) type;
+        if (isEnum != clazz.isEnum()) {
+            throw new IllegalArgumentException(isEnum
+                    ? "@ScaleEnum cannot be used with " + clazz.getName() + ": " + field
+                    : "Enum type must be annotated with @ScaleEnum: " + field);
+        }
+        boolean compactType = clazz == Integer.class || clazz == Long.class || clazz == BigInteger.class || clazz == UInt128.class;
+        if (compact && !compactType) {
+            throw new IllegalArgumentException("@ScaleCompact cannot be used with " + clazz.getName() + ": " + field);
+        }
+        if (clazz == Byte.class) {
+            return new Codec<Byte>(ScaleCodecReader::readByte, sized((wrt, value) -> wrt.directWrite(value), (value) -> 1));
+        } else if (clazz == Short.class) {
+            return new Codec<Short>((rdr) -> (short) ScaleCodecReader.UINT16.readInt(rdr), sized((wrt, value) -> UINT16_BITS.writeInt(wrt, value), (value) -> 2));
+        } else if (clazz == Integer.class) {
+            return compact
+                    ? new Codec<>(ScaleCodecReader.COMPACT_UINT, ScaleCodecWriter.COMPACT_UINT)
+                    : new Codec<>(ScaleCodecReader.INT32, UINT32_BITS);
+        } else if (clazz == Long.class) {
+            return compact
+                    ? new Codec<>(ScaleCodecReader.COMPACT_ULONG, ScaleCodecWriter.COMPACT_ULONG)
+                    : new Codec<>(ULONG64_READER, ULONG64_WRITER);
+        } else if (clazz == Boolean.class) {
+            return new Codec<>(ScaleCodecReader.BOOL, ScaleCodecWriter.BOOL);
+        } else if (clazz == BigInteger.class) {
+            return compact
+                    ? new Codec<>(ScaleCodecReader.COMPACT_BIGINT, ScaleCodecWriter.COMPACT_BIGINT)
+                    : new Codec<>(ScaleCodecReader.UINT128, ScaleCodecWriter.UINT128);
+        } else if (clazz == UInt128.class) {
+            return compact
+                    ? new Codec<>(new CompactUInt128Reader(), new CompactUInt128Writer())
+                    : new Codec<>(new UInt128ValueReader(), new UInt128ValueWriter());
+        } else if (clazz == String.class) {
+            return new Codec<String>(ScaleCodecReader.STRING, (wrt, value) -> wrt.writeAsList(value.getBytes(StandardCharsets.UTF_8)));
+        } else if (clazz == byte[].class) {
+            return new Codec<byte[]>(ScaleCodecReader::readByteArray, sized(ScaleCodecWriter::writeAsList,
+                    (value) -> ScaleCodecWriter.COMPACT_UINT.encodedSize(value.length) + value.length));
+        } else if (clazz == Hash256.class) {
+            return new Codec<Hash256>((rdr) -> Hash256.wrap(rdr.readUint256()), sized((wrt, value) -> wrt.writeBytes(value), (value) -> 32));
+        } else if (clazz.isEnum()) {
+            return new Codec<Enum<?>>(new EnumReader<>((Enum<?>[]) clazz.getEnumConstants()), sized((wrt, value) -> wrt.directWrite(value.ordinal()), (value) -> 1));
+        } else if (clazz.getAnnotation(ScaleStruct.class) != null) {
+            // resolved on the first use, since the struct may refer to itself
+            return new Codec<Object>((rdr) -> of(clazz).read(rdr), sized(
+                    (wrt, value) -> ((StructCodec<Object>) of(clazz)).write(wrt, value),
+                    (value) -> ((StructCodec<Object>) of(clazz)).encodedSize(value)
+            ));
+        }
+        throw new IllegalArgumentException("Type is not supported by SCALE codec: " + clazz.getName() + ": " + field);
+    }
+
+    private static <V> ScaleWriter<V> sized(ScaleWriter<V> writer, ToIntFunction<V> size) {
+        return new ScaleWriter<V>() {
+            @Override
+            public void write(ScaleCodecWriter wrt, V value) throws IOException {
+                writer.write(wrt, value);
+            }
+
+            @Override
+            public int encodedSize(V value) {
+                return size.applyAsInt(value);
+            }
+        };
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException("Failed to access field", t);
+    }
+
+    private static class Codec<V> {
+        private final ScaleReader<V> reader;
+        private final ScaleWriter<V> writer;
+
+        Codec(ScaleReader<V> reader, ScaleWriter<V> writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * @return codec for Option of the value, where null is None
+         */
+        @SuppressWarnings("unchecked")
+        Codec<V> optional() {
+            if (reader == ScaleCodecReader.BOOL) {
+                return (Codec<V>) new Codec<Boolean>(
+                        (rdr) -> ScaleCodecReader.BOOL_OPTIONAL.read(rdr).orElse(null),
+                        sized((wrt, value) -> ScaleCodecWriter.BOOL_OPT.write(wrt, Optional.ofNullable(value)), (value) -> 1)
+                );
+            }
+            return new Codec<>(
+                    (rdr) -> rdr.readBoolean() ? reader.read(rdr) : null,
+                    sized(
+                            (wrt, value) -> {
+                                if (value == null) {
+                                    wrt.directWrite(0);
+                                } else {
+                                    wrt.directWrite(1);
+                                    writer.write(wrt, value);
+                                }
+                            },
+                            (value) -> {
+                                if (value == null) {
+                                    return 1;
+                                }
+                                int size = writer.encodedSize(value);
+                                return size < 0 ? UNKNOWN_SIZE : 1 + size;
+                            }
+                    )
+            );
+        }
+    }
+
+    /**
+     * Reads and writes a single field of a struct, as method handles to be composed into the struct codec
+     */
+    private static class FieldCodec {
+        // (Object target, ScaleCodecReader rdr) -> void
+        private final MethodHandle read;
+        // (ScaleCodecWriter wrt, Object target) -> void
+        private final MethodHandle write;
+        // (Object target) -> int
+        private final MethodHandle size;
+
+        FieldCodec(MethodHandle getter, MethodHandle setter, Class<?> type,
+                   MethodHandle valueReader, MethodHandle valueWriter, MethodHandle valueSize) {
+            getter = getter.asType(MethodType.methodType(type, Object.class));
+            setter = setter.asType(MethodType.methodType(void.class, Object.class, type));
+            this.read = MethodHandles.filterArguments(setter, 1, valueReader);
+            this.write = MethodHandles.filterArguments(valueWriter, 1, getter);
+            this.size = MethodHandles.filterArguments(valueSize, 0, getter);
+        }
+    }
+
+    private static MethodHandle fixedSize(Class<?> type, int size) {
+        return MethodHandles.dropArguments(MethodHandles.constant(int.class, size), 0, type);
+    }
+
+    private static short readShort(ScaleCodecReader rdr) {
+        return (short) ScaleCodecReader.UINT16.readInt(rdr);
+    }
+
+    private static void writeByte(ScaleCodecWriter wrt, byte value) throws IOException {
+        wrt.directWrite(value);
+    }
+
+    private static void writeBoolean(ScaleCodecWriter wrt, boolean value) throws IOException {
+        wrt.directWrite(value ? 1 : 0);
+    }
+
+    private static long addSize(long total, int size) {
+        if (total < 0 || size < 0) {
+            return UNKNOWN_SIZE;
+        }
+        return total + size;
+    }
+
+    private static MethodHandle find(Class<?> owner, String name, Class<?> returnType, Class<?>... parameters) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(owner, name, MethodType.methodType(returnType, parameters));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Method " + owner.getName() + "." + name + " is not available", e);
+        }
+    }
+
+    private static MethodHandle findStatic(String name, Class<?> returnType, Class<?>... parameters) {
+        try {
+            return MethodHandles.lookup().findStatic(StructCodec.class, name, MethodType.methodType(returnType, parameters));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Method " + name + " is not available", e);
+        }
+    }
+}
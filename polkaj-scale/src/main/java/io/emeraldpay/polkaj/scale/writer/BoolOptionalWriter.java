@@ -18,4 +18,9 @@ public class BoolOptionalWriter implements ScaleWriter<Optional<Boolean>> {
             wrt.directWrite(1);
         }
     }
+
+    @Override
+    public int encodedSize(Optional<Boolean> value) {
+        return 1;
+    }
 }
@@ -14,4 +14,9 @@ public class BoolWriter implements ScaleWriter<Boolean> {
             wrt.directWrite(0);
         }
     }
+
+    @Override
+    public int encodedSize(Boolean value) {
+        return 1;
+    }
 }
@@ -13,6 +13,10 @@ public class CompactBigIntWriter implements ScaleWriter<BigInteger> {
 
     @Override
     public void write(ScaleCodecWriter wrt, BigInteger value) throws IOException {
+        if (value.signum() >= 0 && value.bitLength() < 64) {
+            LONG_WRITER.writeLong(wrt, value.longValue());
+            return;
+        }
         CompactMode mode = CompactMode.forNumber(value);
 
         byte[] data = value.toByteArray();
@@ -20,11 +24,6 @@ public class CompactBigIntWriter implements ScaleWriter<BigInteger> {
         int pos = data.length-1;
         int limit = 0;
 
-        if (mode != CompactMode.BIGINT) {
-            LONG_WRITER.write(wrt, value.longValue());
-            return;
-        }
-
         // skip the first byte if it's 0
         if (data[0]==0x00) {
             length--;
@@ -37,4 +36,13 @@ public class CompactBigIntWriter implements ScaleWriter<BigInteger> {
             pos--;
         }
     }
+
+    @Override
+    public int encodedSize(BigInteger value) {
+        if (value.signum() >= 0 && value.bitLength() < 64) {
+            return LONG_WRITER.encodedSize(value.longValue());
+        }
+        CompactMode.forNumber(value);
+        return 1 + (value.bitLength() + 7) / 8;
+    }
 }
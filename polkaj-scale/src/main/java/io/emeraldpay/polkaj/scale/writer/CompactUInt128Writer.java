@@ -0,0 +1,53 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.CompactMode;
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.types.UInt128;
+
+import java.io.IOException;
+
+/**
+ * Write {@link UInt128} as a compact encoded value
+ *
+ * @see CompactBigIntWriter
+ */
+public class CompactUInt128Writer implements ScaleWriter<UInt128> {
+
+    private static final CompactULongWriter LONG_WRITER = new CompactULongWriter();
+
+    @Override
+    public void write(ScaleCodecWriter wrt, UInt128 value) throws IOException {
+        if (value.isLong()) {
+            LONG_WRITER.writeLong(wrt, value.getLow());
+            return;
+        }
+        long high = value.getHigh();
+        long low = value.getLow();
+        int bytes;
+        if (high == 0) {
+            bytes = 8;
+        } else {
+            bytes = 8 + (64 - Long.numberOfLeadingZeros(high) + 7) / 8;
+        }
+        wrt.directWrite(((bytes - 4) << 2) + CompactMode.BIGINT.getValue());
+        for (int shift = 0; shift < 64; shift += 8) {
+            wrt.directWrite((int)(low >>> shift) & 0xff);
+        }
+        for (int shift = 0; shift < (bytes - 8) * 8; shift += 8) {
+            wrt.directWrite((int)(high >>> shift) & 0xff);
+        }
+    }
+
+    @Override
+    public int encodedSize(UInt128 value) {
+        if (value.isLong()) {
+            return LONG_WRITER.encodedSize(value.getLow());
+        }
+        long high = value.getHigh();
+        if (high == 0) {
+            return 1 + 8;
+        }
+        return 1 + 8 + (64 - Long.numberOfLeadingZeros(high) + 7) / 8;
+    }
+}
@@ -1,37 +1,41 @@
 package io.emeraldpay.polkaj.scale.writer;
 
 import io.emeraldpay.polkaj.scale.CompactMode;
-import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.IntScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
 
-public class CompactUIntWriter implements ScaleWriter<Integer> {
+public class CompactUIntWriter implements IntScaleWriter {
 
     @Override
-    public void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+    public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
         CompactMode mode = CompactMode.forNumber(value);
-        int compact;
-        int bytes;
-        if (mode == CompactMode.BIGINT) {
-            wrt.directWrite(mode.getValue());
-            compact = value;
-            bytes = 4;
-        } else {
-            compact = (value << 2) + mode.getValue();
-            if (mode == CompactMode.SINGLE) {
-                bytes = 1;
-            } else if (mode == CompactMode.TWO) {
-                bytes = 2;
-            } else {
-                bytes = 4;
-            }
-        }
-        while (bytes > 0) {
+        if (mode == CompactMode.SINGLE) {
+            wrt.directWrite((value << 2) + mode.getValue());
+        } else if (mode == CompactMode.TWO) {
+            int compact = (value << 2) + mode.getValue();
             wrt.directWrite(compact & 0xff);
-            compact >>= 8;
-            bytes--;
+            wrt.directWrite((compact >> 8) & 0xff);
+        } else if (mode == CompactMode.FOUR) {
+            wrt.writeInt32((value << 2) + mode.getValue());
+        } else {
+            wrt.directWrite(mode.getValue());
+            wrt.writeInt32(value);
         }
     }
 
+    @Override
+    public int encodedSize(int value) {
+        switch (CompactMode.forNumber(value)) {
+            case SINGLE:
+                return 1;
+            case TWO:
+                return 2;
+            case FOUR:
+                return 4;
+            default:
+                return 5;
+        }
+    }
 }
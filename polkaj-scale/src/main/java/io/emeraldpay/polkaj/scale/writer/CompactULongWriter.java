@@ -1,33 +1,30 @@
 package io.emeraldpay.polkaj.scale.writer;
 
 import io.emeraldpay.polkaj.scale.CompactMode;
+import io.emeraldpay.polkaj.scale.LongScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
-import io.emeraldpay.polkaj.scale.ScaleWriter;
 
 import java.io.IOException;
-import java.math.BigInteger;
 
-public class CompactULongWriter implements ScaleWriter<Long> {
-
-    private static final CompactBigIntWriter BIGINT_WRITER = new CompactBigIntWriter();
+public class CompactULongWriter implements LongScaleWriter {
 
     @Override
-    public void write(ScaleCodecWriter wrt, Long value) throws IOException {
+    public void writeLong(ScaleCodecWriter wrt, long value) throws IOException {
         CompactMode mode = CompactMode.forNumber(value);
+        if (mode == CompactMode.FOUR) {
+            wrt.writeInt32((int) (value << 2) + mode.getValue());
+            return;
+        }
         long compact;
         int bytes;
         if (mode == CompactMode.BIGINT) {
-            BIGINT_WRITER.write(wrt, BigInteger.valueOf(value));
-            return;
+            // number of meaningful bytes, but at least 4 as the shortest BIGINT form
+            bytes = Math.max(4, (64 - Long.numberOfLeadingZeros(value) + 7) / 8);
+            wrt.directWrite(((bytes - 4) << 2) + mode.getValue());
+            compact = value;
         } else {
             compact = (value << 2) + mode.getValue();
-            if (mode == CompactMode.SINGLE) {
-                bytes = 1;
-            } else if (mode == CompactMode.TWO) {
-                bytes = 2;
-            } else {
-                bytes = 4;
-            }
+            bytes = mode == CompactMode.SINGLE ? 1 : 2;
         }
         while (bytes > 0) {
             wrt.directWrite((int)compact & 0xff);
@@ -35,4 +32,18 @@ public class CompactULongWriter implements ScaleWriter<Long> {
             bytes--;
         }
     }
+
+    @Override
+    public int encodedSize(long value) {
+        switch (CompactMode.forNumber(value)) {
+            case SINGLE:
+                return 1;
+            case TWO:
+                return 2;
+            case FOUR:
+                return 4;
+            default:
+                return 1 + Math.max(4, (64 - Long.numberOfLeadingZeros(value) + 7) / 8);
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+
+import java.io.IOException;
+
+/**
+ * Write a flat <code>byte[]</code> as a list of fixed size byte arrays (ex. <code>Vec&lt;[u8; 32]&gt;</code> of account ids).
+ *
+ * @see io.emeraldpay.polkaj.scale.reader.FixedBytesArrayReader
+ */
+public class FixedBytesArrayWriter implements ScaleWriter<byte[]> {
+
+    private final int width;
+
+    /**
+     * @param width size of each element in bytes
+     */
+    public FixedBytesArrayWriter(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Width must be positive: " + width);
+        }
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public void write(ScaleCodecWriter wrt, byte[] value) throws IOException {
+        if (value.length % width != 0) {
+            throw new IllegalArgumentException("Array length " + value.length + " is not a multiple of " + width);
+        }
+        wrt.writeCompact(value.length / width);
+        wrt.directWrite(value, 0, value.length);
+    }
+
+    @Override
+    public int encodedSize(byte[] value) {
+        return ScaleCodecWriter.COMPACT_UINT.encodedSize(value.length / width) + value.length;
+    }
+}
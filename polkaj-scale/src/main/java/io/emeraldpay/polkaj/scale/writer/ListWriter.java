@@ -4,6 +4,7 @@ import io.emeraldpay.polkaj.scale.ScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 public class ListWriter<T> implements ScaleWriter<List<T>> {
@@ -21,4 +22,41 @@ public class ListWriter<T> implements ScaleWriter<List<T>> {
             scaleWriter.write(wrt, item);
         }
     }
+
+    /**
+     * Write the list from an iterator, i.e. without knowing its size in advance. The size is written when all
+     * elements are written, see {@link ScaleCodecWriter#reserveCompact()}.
+     *
+     * @param wrt writer
+     * @param items elements of the list
+     * @throws IOException if failed to write
+     */
+    public void write(ScaleCodecWriter wrt, Iterator<T> items) throws IOException {
+        int slot = wrt.reserveCompact();
+        int size = 0;
+        while (items.hasNext()) {
+            scaleWriter.write(wrt, items.next());
+            size++;
+        }
+        wrt.fillCompact(slot, size);
+    }
+
+    /**
+     * @return size of the encoded list, or {@link #UNKNOWN_SIZE} if the writer of the elements doesn't provide their size
+     */
+    @Override
+    public int encodedSize(List<T> value) {
+        long size = ScaleCodecWriter.COMPACT_UINT.encodedSize(value.size());
+        for (T item: value) {
+            int itemSize = scaleWriter.encodedSize(item);
+            if (itemSize < 0) {
+                return UNKNOWN_SIZE;
+            }
+            size += itemSize;
+        }
+        if (size > Integer.MAX_VALUE) {
+            return UNKNOWN_SIZE;
+        }
+        return (int) size;
+    }
 }
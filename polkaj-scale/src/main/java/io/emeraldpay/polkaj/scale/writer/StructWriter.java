@@ -0,0 +1,162 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes a struct as a sequence of fields, each one taken from the value with a getter function. It's the writing
+ * counterpart of {@link io.emeraldpay.polkaj.scale.reader.ProjectionReader}, and fields which are not part of the value
+ * (ex. module and call index) can be written as constant bytes.
+ * <br>
+ * Example, write destination and amount of a balance transfer call:
+ * <pre><code>
+ * StructWriter&lt;Deposit&gt; writer = StructWriter.&lt;Deposit&gt;builder()
+ *     .bytes(new byte[] {5, 0}) // module and call index
+ *     .field(new MultiAddressWriter(), Deposit::getDestination)
+ *     .field(ScaleCodecWriter.COMPACT_BIGINT, Deposit::getAmount)
+ *     .build();
+ * </code></pre>
+ *
+ * @param <T> type of the value
+ */
+public class StructWriter<T> implements ScaleWriter<T> {
+
+    private final Step<T>[] steps;
+
+    @SuppressWarnings("unchecked")
+    private StructWriter(List<Step<T>> steps) {
+        this.steps = steps.toArray(new Step[0]);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public void write(ScaleCodecWriter wrt, T value) throws IOException {
+        for (Step<T> step: steps) {
+            step.write(wrt, value);
+        }
+    }
+
+    /**
+     * @return sum of the sizes of all fields, or {@link #UNKNOWN_SIZE} if any of them is unknown or the sum doesn't
+     * fit into int
+     */
+    @Override
+    public int encodedSize(T value) {
+        long size = 0;
+        for (Step<T> step: steps) {
+            int field = step.encodedSize(value);
+            if (field < 0) {
+                return UNKNOWN_SIZE;
+            }
+            size += field;
+        }
+        if (size > Integer.MAX_VALUE) {
+            return UNKNOWN_SIZE;
+        }
+        return (int) size;
+    }
+
+    private interface Step<T> {
+        void write(ScaleCodecWriter wrt, T value) throws IOException;
+
+        int encodedSize(T value);
+    }
+
+    private static class FieldStep<T, F> implements Step<T> {
+        private final ScaleWriter<F> writer;
+        private final Function<? super T, ? extends F> getter;
+
+        FieldStep(ScaleWriter<F> writer, Function<? super T, ? extends F> getter) {
+            this.writer = writer;
+            this.getter = getter;
+        }
+
+        @Override
+        public void write(ScaleCodecWriter wrt, T value) throws IOException {
+            writer.write(wrt, getter.apply(value));
+        }
+
+        @Override
+        public int encodedSize(T value) {
+            return writer.encodedSize(getter.apply(value));
+        }
+    }
+
+    private static class BytesStep<T> implements Step<T> {
+        private final byte[] bytes;
+
+        BytesStep(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void write(ScaleCodecWriter wrt, T value) throws IOException {
+            wrt.writeByteArray(bytes);
+        }
+
+        @Override
+        public int encodedSize(T value) {
+            return bytes.length;
+        }
+    }
+
+    public static class Builder<T> {
+
+        private final List<Step<T>> steps = new ArrayList<>();
+
+        /**
+         * Add a field to write
+         *
+         * @param writer writer for the field
+         * @param getter function to get the field from the value
+         * @param <F> type of the field
+         * @return builder
+         */
+        public <F> Builder<T> field(ScaleWriter<F> writer, Function<? super T, ? extends F> getter) {
+            if (writer == null) {
+                throw new NullPointerException("ScaleWriter is null");
+            }
+            if (getter == null) {
+                throw new NullPointerException("Getter is null");
+            }
+            steps.add(new FieldStep<>(writer, getter));
+            return this;
+        }
+
+        /**
+         * Add constant bytes, which are written as is
+         *
+         * @param bytes encoded bytes
+         * @return builder
+         */
+        public Builder<T> bytes(byte[] bytes) {
+            if (bytes == null) {
+                throw new NullPointerException("Bytes are null");
+            }
+            int last = steps.size() - 1;
+            if (last >= 0 && steps.get(last) instanceof BytesStep) {
+                // join with the previous constant bytes
+                byte[] prev = ((BytesStep<T>) steps.remove(last)).bytes;
+                byte[] joined = Arrays.copyOf(prev, prev.length + bytes.length);
+                System.arraycopy(bytes, 0, joined, prev.length, bytes.length);
+                steps.add(new BytesStep<>(joined));
+            } else {
+                steps.add(new BytesStep<>(bytes.clone()));
+            }
+            return this;
+        }
+
+        public StructWriter<T> build() {
+            return new StructWriter<>(steps);
+        }
+    }
+}
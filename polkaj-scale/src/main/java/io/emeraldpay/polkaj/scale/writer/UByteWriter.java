@@ -1,17 +1,22 @@
 package io.emeraldpay.polkaj.scale.writer;
 
-import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.IntScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
 
-public class UByteWriter implements ScaleWriter<Integer> {
+public class UByteWriter implements IntScaleWriter {
 
     @Override
-    public void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+    public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
         if (value < 0 || value > 0xff) {
             throw new IllegalArgumentException("Only values in range 0..255 are supported: " + value);
         }
         wrt.directWrite(value);
     }
+
+    @Override
+    public int encodedSize(int value) {
+        return 1;
+    }
 }
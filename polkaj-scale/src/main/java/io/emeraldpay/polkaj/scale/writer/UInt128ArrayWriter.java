@@ -0,0 +1,32 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+
+import java.io.IOException;
+
+/**
+ * Write a flat <code>long[]</code> as a list of unsigned 128 bit integers (i.e. <code>Vec&lt;u128&gt;</code>). Each value
+ * takes two elements of the array, the lower and the upper 64 bits in this order.
+ *
+ * @see io.emeraldpay.polkaj.scale.reader.UInt128ArrayReader
+ */
+public class UInt128ArrayWriter implements ScaleWriter<long[]> {
+
+    @Override
+    public void write(ScaleCodecWriter wrt, long[] value) throws IOException {
+        if (value.length % 2 != 0) {
+            throw new IllegalArgumentException("Array must contain pairs of values. Has: " + value.length + " elements");
+        }
+        wrt.writeCompact(value.length / 2);
+        ULong64ArrayWriter.writeLongs(wrt, value);
+    }
+
+    /**
+     * @return size of the encoded list, or {@link #UNKNOWN_SIZE} if it doesn't fit into an int
+     */
+    @Override
+    public int encodedSize(long[] value) {
+        return ULong64ArrayWriter.encodedSize(value.length / 2, value.length);
+    }
+}
@@ -0,0 +1,28 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.types.UInt128;
+
+import java.io.IOException;
+
+/**
+ * Write {@link UInt128} as unsigned 128 bit integer
+ *
+ * @see UInt128Writer
+ */
+public class UInt128ValueWriter implements ScaleWriter<UInt128> {
+
+    private static final ULong64Writer LONG_WRITER = new ULong64Writer();
+
+    @Override
+    public void write(ScaleCodecWriter wrt, UInt128 value) throws IOException {
+        LONG_WRITER.writeLong(wrt, value.getLow());
+        LONG_WRITER.writeLong(wrt, value.getHigh());
+    }
+
+    @Override
+    public int encodedSize(UInt128 value) {
+        return UInt128.SIZE_BYTES;
+    }
+}
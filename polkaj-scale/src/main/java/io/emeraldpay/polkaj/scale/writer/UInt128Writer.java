@@ -2,31 +2,35 @@ package io.emeraldpay.polkaj.scale.writer;
 
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 import io.emeraldpay.polkaj.scale.ScaleWriter;
-import io.emeraldpay.polkaj.scale.reader.UInt128Reader;
+import io.emeraldpay.polkaj.types.UInt128;
 
 import java.io.IOException;
 import java.math.BigInteger;
 
+/**
+ * Write BigInteger as unsigned 128 bit integer
+ *
+ * @see UInt128ValueWriter
+ */
 public class UInt128Writer implements ScaleWriter<BigInteger> {
 
+    private static final ULong64Writer LONG_WRITER = new ULong64Writer();
+
     @Override
     public void write(ScaleCodecWriter wrt, BigInteger value) throws IOException {
         if (value.signum() < 0) {
             throw new IllegalArgumentException("Negative numbers are not supported by Uint128");
         }
-        byte[] array = value.toByteArray();
-        int pos = 0;
-        // sometimes BigInteger gives an extra zero byte in the start of the array
-        if (array[0] == 0) {
-            pos++;
-        }
-        int len = array.length - pos;
-        if (len > UInt128Reader.SIZE_BYTES) {
-            throw new IllegalArgumentException("Value is to big for 128 bits. Has: " + len * 8 + " bits");
+        int bits = value.bitLength();
+        if (bits > UInt128.SIZE_BYTES * 8) {
+            throw new IllegalArgumentException("Value is to big for 128 bits. Has: " + bits + " bits");
         }
-        byte[] encoded = new byte[UInt128Reader.SIZE_BYTES];
-        System.arraycopy(array, pos, encoded, encoded.length - len, len);
-        UInt128Reader.reverse(encoded);
-        wrt.directWrite(encoded, 0, UInt128Reader.SIZE_BYTES);
+        LONG_WRITER.writeLong(wrt, value.longValue());
+        LONG_WRITER.writeLong(wrt, bits > 64 ? value.shiftRight(64).longValue() : 0);
+    }
+
+    @Override
+    public int encodedSize(BigInteger value) {
+        return UInt128.SIZE_BYTES;
     }
 }
@@ -1,14 +1,18 @@
 package io.emeraldpay.polkaj.scale.writer;
 
-import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.IntScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
 
-public class UInt16Writer implements ScaleWriter<Integer> {
+public class UInt16Writer implements IntScaleWriter {
     @Override
-    public void write(ScaleCodecWriter wrt, Integer value) throws IOException {
-        wrt.directWrite(value & 0xff);
-        wrt.directWrite((value >> 8) & 0xff);
+    public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
+        wrt.writeInt16(value);
+    }
+
+    @Override
+    public int encodedSize(int value) {
+        return 2;
     }
 }
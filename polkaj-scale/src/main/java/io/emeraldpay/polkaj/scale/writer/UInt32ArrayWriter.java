@@ -0,0 +1,43 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+
+import java.io.IOException;
+
+/**
+ * Write an <code>int[]</code> as a list of unsigned 32 bit integers (i.e. <code>Vec&lt;u32&gt;</code>). Negative values
+ * are written with the same bits, i.e. as values larger than 2**31-1.
+ */
+public class UInt32ArrayWriter implements ScaleWriter<int[]> {
+
+    // values encoded at once before passing them to the writer, so a large array doesn't need a copy of the same size
+    private static final int CHUNK = 256;
+
+    @Override
+    public void write(ScaleCodecWriter wrt, int[] value) throws IOException {
+        wrt.writeCompact(value.length);
+        byte[] chunk = new byte[Math.min(value.length, CHUNK) * 4];
+        for (int offset = 0; offset < value.length; offset += CHUNK) {
+            int count = Math.min(value.length - offset, CHUNK);
+            for (int i = 0; i < count; i++) {
+                int item = value[offset + i];
+                int pos = i * 4;
+                chunk[pos] = (byte) item;
+                chunk[pos + 1] = (byte) (item >> 8);
+                chunk[pos + 2] = (byte) (item >> 16);
+                chunk[pos + 3] = (byte) (item >> 24);
+            }
+            wrt.directWrite(chunk, 0, count * 4);
+        }
+    }
+
+    /**
+     * @return size of the encoded list, or {@link #UNKNOWN_SIZE} if it doesn't fit into an int
+     */
+    @Override
+    public int encodedSize(int[] value) {
+        long size = ScaleCodecWriter.COMPACT_UINT.encodedSize(value.length) + value.length * 4L;
+        return size > Integer.MAX_VALUE ? UNKNOWN_SIZE : (int) size;
+    }
+}
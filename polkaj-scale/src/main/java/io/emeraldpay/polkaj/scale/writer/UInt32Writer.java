@@ -1,19 +1,21 @@
 package io.emeraldpay.polkaj.scale.writer;
 
-import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.IntScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
 
-public class UInt32Writer implements ScaleWriter<Integer> {
+public class UInt32Writer implements IntScaleWriter {
     @Override
-    public void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+    public void writeInt(ScaleCodecWriter wrt, int value) throws IOException {
         if (value < 0) {
             throw new IllegalArgumentException("Negative values are not supported: " + value);
         }
-        wrt.directWrite(value & 0xff);
-        wrt.directWrite((value >> 8) & 0xff);
-        wrt.directWrite((value >> 16) & 0xff);
-        wrt.directWrite((value >> 24) & 0xff);
+        wrt.writeInt32(value);
+    }
+
+    @Override
+    public int encodedSize(int value) {
+        return 4;
     }
 }
@@ -1,22 +1,24 @@
 package io.emeraldpay.polkaj.scale.writer;
 
-import io.emeraldpay.polkaj.scale.ScaleWriter;
+import io.emeraldpay.polkaj.scale.LongScaleWriter;
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 
 import java.io.IOException;
 
-public class ULong32Writer implements ScaleWriter<Long> {
+public class ULong32Writer implements LongScaleWriter {
     @Override
-    public void write(ScaleCodecWriter wrt, Long value) throws IOException {
+    public void writeLong(ScaleCodecWriter wrt, long value) throws IOException {
         if (value < 0) {
             throw new IllegalArgumentException("Negative values are not supported: " + value);
         }
         if (value > 0xff_ff_ff_ffL) {
             throw new IllegalArgumentException("Value is too high: " + value);
         }
-        wrt.directWrite((int)(value & 0xff));
-        wrt.directWrite((int)((value >> 8) & 0xff));
-        wrt.directWrite((int)((value >> 16) & 0xff));
-        wrt.directWrite((int)((value >> 24) & 0xff));
+        wrt.writeInt32((int) value);
+    }
+
+    @Override
+    public int encodedSize(long value) {
+        return 4;
     }
 }
@@ -0,0 +1,57 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleWriter;
+
+import java.io.IOException;
+
+/**
+ * Write a <code>long[]</code> as a list of unsigned 64 bit integers (i.e. <code>Vec&lt;u64&gt;</code>). Negative values
+ * are written with the same bits, i.e. as values larger than 2**63-1.
+ *
+ * @see ULong64Writer
+ */
+public class ULong64ArrayWriter implements ScaleWriter<long[]> {
+
+    // values encoded at once before passing them to the writer, so a large array doesn't need a copy of the same size
+    private static final int CHUNK = 128;
+
+    @Override
+    public void write(ScaleCodecWriter wrt, long[] value) throws IOException {
+        wrt.writeCompact(value.length);
+        writeLongs(wrt, value);
+    }
+
+    static void writeLongs(ScaleCodecWriter wrt, long[] value) throws IOException {
+        byte[] chunk = new byte[Math.min(value.length, CHUNK) * 8];
+        for (int offset = 0; offset < value.length; offset += CHUNK) {
+            int count = Math.min(value.length - offset, CHUNK);
+            for (int i = 0; i < count; i++) {
+                long item = value[offset + i];
+                int pos = i * 8;
+                for (int b = 0; b < 8; b++) {
+                    chunk[pos + b] = (byte) (item >>> (b * 8));
+                }
+            }
+            wrt.directWrite(chunk, 0, count * 8);
+        }
+    }
+
+    /**
+     * @param items number of items in the list
+     * @param length length of the array
+     * @return size of the list of the array values, or {@link #UNKNOWN_SIZE} if it doesn't fit into an int
+     */
+    static int encodedSize(int items, int length) {
+        long size = ScaleCodecWriter.COMPACT_UINT.encodedSize(items) + length * 8L;
+        return size > Integer.MAX_VALUE ? UNKNOWN_SIZE : (int) size;
+    }
+
+    /**
+     * @return size of the encoded list, or {@link #UNKNOWN_SIZE} if it doesn't fit into an int
+     */
+    @Override
+    public int encodedSize(long[] value) {
+        return encodedSize(value.length, value.length);
+    }
+}
@@ -0,0 +1,25 @@
+package io.emeraldpay.polkaj.scale.writer;
+
+import io.emeraldpay.polkaj.scale.LongScaleWriter;
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+
+import java.io.IOException;
+
+/**
+ * Write Java long as unsigned 64 bit integer. Negative values are written with the same bits, i.e. as values
+ * larger than 2**63-1.
+ *
+ * @see UInt64Writer
+ */
+public class ULong64Writer implements LongScaleWriter {
+
+    @Override
+    public void writeLong(ScaleCodecWriter wrt, long value) throws IOException {
+        wrt.writeInt64(value);
+    }
+
+    @Override
+    public int encodedSize(long value) {
+        return 8;
+    }
+}
@@ -5,19 +5,24 @@ import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
 import io.emeraldpay.polkaj.scale.UnionValue;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 public class UnionWriter<T> implements ScaleWriter<UnionValue<T>> {
 
-    private final List<ScaleWriter<T>> mapping;
+    private static final int MAX_TYPES = 256;
+
+    // indexed by the type byte, so any index of UnionValue is within the table
+    private final ScaleWriter<T>[] table;
 
     @SuppressWarnings("unchecked")
     public UnionWriter(List<ScaleWriter<? extends T>> mapping) {
-        this.mapping = new ArrayList<>(mapping.size());
-        for (ScaleWriter<? extends T> t: mapping) {
-            this.mapping.add((ScaleWriter<T>) t);
+        if (mapping.size() > MAX_TYPES) {
+            throw new IllegalArgumentException("Union can have max " + MAX_TYPES + " types. Has: " + mapping.size());
+        }
+        this.table = new ScaleWriter[MAX_TYPES];
+        for (int i = 0; i < mapping.size(); i++) {
+            table[i] = (ScaleWriter<T>) mapping.get(i);
         }
     }
 
@@ -28,9 +33,25 @@ public class UnionWriter<T> implements ScaleWriter<UnionValue<T>> {
 
     @Override
     public void write(ScaleCodecWriter wrt, UnionValue<T> value) throws IOException {
-        wrt.directWrite(value.getIndex());
-        T actual = value.getValue();
-        mapping.get(value.getIndex()).write(wrt, actual);
+        int index = value.getIndex();
+        ScaleWriter<T> writer = table[index];
+        if (writer == null) {
+            throw new IndexOutOfBoundsException("Unknown type index: " + index);
+        }
+        wrt.directWrite(index);
+        writer.write(wrt, value.getValue());
     }
 
+    @Override
+    public int encodedSize(UnionValue<T> value) {
+        ScaleWriter<T> writer = table[value.getIndex()];
+        if (writer == null) {
+            throw new IndexOutOfBoundsException("Unknown type index: " + value.getIndex());
+        }
+        int size = writer.encodedSize(value.getValue());
+        if (size < 0) {
+            return UNKNOWN_SIZE;
+        }
+        return 1 + size;
+    }
 }
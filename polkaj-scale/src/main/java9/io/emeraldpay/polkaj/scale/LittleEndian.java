@@ -0,0 +1,38 @@
+package io.emeraldpay.polkaj.scale;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Java 9+ implementation, which accesses the values with a single operation through a little-endian view of the array
+ */
+final class LittleEndian {
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private LittleEndian() {
+    }
+
+    static int getInt(byte[] source, int pos) {
+        return (int) INT.get(source, pos);
+    }
+
+    static long getLong(byte[] source, int pos) {
+        return (long) LONG.get(source, pos);
+    }
+
+    static void putShort(byte[] target, int pos, int value) {
+        SHORT.set(target, pos, (short) value);
+    }
+
+    static void putInt(byte[] target, int pos, int value) {
+        INT.set(target, pos, value);
+    }
+
+    static void putLong(byte[] target, int pos, long value) {
+        LONG.set(target, pos, value);
+    }
+}
@@ -0,0 +1,92 @@
+package io.emeraldpay.polkaj.scale
+
+import io.emeraldpay.polkaj.ss58.SS58Type
+import io.emeraldpay.polkaj.types.ByteData
+import io.emeraldpay.polkaj.types.Hash256
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class ByteSliceSpec extends Specification {
+
+    def hash = "bb931fd17f85fb26e8209eb7af5747258163df29a7dd8f87fa7617963fcfa1aa"
+
+    def "Reads slice of the source"() {
+        setup:
+        def source = Hex.decodeHex("ff" + hash)
+        def codec = new ScaleCodecReader(source)
+        codec.skip(1)
+        when:
+        def act = codec.readUint256Slice()
+        then:
+        act.length() == 32
+        !codec.hasNext()
+        act.toHash256() == Hash256.from(hash)
+        act.toByteData() == ByteData.from(hash)
+        act.hashCode() == ByteData.from(hash).hashCode()
+        act.contentEquals(Hex.decodeHex(hash))
+    }
+
+    def "Reads compact prefixed slice"() {
+        when:
+        def act = new ScaleCodecReader(Hex.decodeHex("1468656c6c6f")).readByteSlice()
+        then:
+        act.length() == 5
+        act.toUtf8String() == "hello"
+    }
+
+    def "Reads slice from buffer"() {
+        when:
+        def act = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex(hash))).readUint256Slice()
+        then:
+        act.toHash256() == Hash256.from(hash)
+    }
+
+    def "Reads slice from direct buffer"() {
+        setup:
+        def buf = ByteBuffer.allocateDirect(32)
+        buf.put(Hex.decodeHex(hash))
+        buf.flip()
+        when:
+        def act = new ScaleCodecBufferReader(buf).readUint256Slice()
+        then:
+        act.toHash256() == Hash256.from(hash)
+    }
+
+    def "Converts to address"() {
+        setup:
+        def pubkey = "d43593c715fdd31c61141abd04a99fd6822c8558854ccde39a5684e7a56da27d"
+        when:
+        def act = ByteSlice.of(Hex.decodeHex(pubkey)).toAddress(SS58Type.Network.SUBSTRATE)
+        then:
+        act.toString() == "5GrwvaEF5zXb26Fz9rcQpDWS57CtERHpNehXCPcNoHGKutQY"
+    }
+
+    def "Equal slices at different offsets"() {
+        setup:
+        def source = Hex.decodeHex("01020301020304")
+        when:
+        def a = new ByteSlice(source, 0, 3)
+        def b = new ByteSlice(source, 3, 3)
+        def c = new ByteSlice(source, 4, 3)
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+        a != c
+    }
+
+    def "Error to read over the source"() {
+        when:
+        new ScaleCodecReader(Hex.decodeHex("0102")).readByteSlice(3)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Error to create slice outside of source"() {
+        when:
+        new ByteSlice(new byte[4], 2, 3)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
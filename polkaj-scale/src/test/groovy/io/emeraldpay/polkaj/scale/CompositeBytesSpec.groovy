@@ -0,0 +1,103 @@
+package io.emeraldpay.polkaj.scale
+
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+
+class CompositeBytesSpec extends Specification {
+
+    def "Builds from segments and encoded values"() {
+        setup:
+        def data = Hex.decodeHex("0102030405")
+        when:
+        def act = CompositeBytes.newBuilder()
+                .addCompact(1)
+                .addByte(0xff)
+                .add(data, 1, 3)
+                .add(ScaleCodecWriter.UINT16, 0x0a0b)
+                .addAsList(ByteSlice.of(data).toByteArray())
+                .build()
+        then:
+        act.length() == 13
+        act.segmentsCount() == 4
+        Hex.encodeHexString(act.toByteArray()) == "04ff" + "020304" + "0b0a14" + "0102030405"
+    }
+
+    def "References the data without copying"() {
+        setup:
+        def data = Hex.decodeHex("0102")
+        def act = CompositeBytes.newBuilder().add(data).build()
+        when:
+        data[0] = 5
+        then:
+        Hex.encodeHexString(act.toByteArray()) == "0502"
+    }
+
+    def "Adds remaining bytes of a buffer"() {
+        setup:
+        def buffer = ByteBuffer.allocateDirect(4)
+        buffer.put(Hex.decodeHex("01020304"))
+        buffer.position(1)
+        when:
+        def act = CompositeBytes.newBuilder().add(buffer).build()
+        then:
+        Hex.encodeHexString(act.toByteArray()) == "020304"
+        buffer.position() == 1
+    }
+
+    def "Writes as a list into a writer"() {
+        setup:
+        def value = CompositeBytes.newBuilder()
+                .add(Hex.decodeHex("0102"))
+                .add(Hex.decodeHex("0304"))
+                .build()
+        def buf = new ByteArrayOutputStream()
+        def wrt = new ScaleCodecWriter(buf)
+        when:
+        wrt.writeAsList(value)
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "1001020304"
+    }
+
+    def "Writes into a gathering channel"() {
+        setup:
+        def file = Files.createTempFile("composite", ".bin")
+        def value = CompositeBytes.newBuilder()
+                .addCompact(2)
+                .add(new byte[1000])
+                .add(Hex.decodeHex("ff"))
+                .build()
+        when:
+        FileChannel.open(file, StandardOpenOption.WRITE).withCloseable {
+            value.writeTo(it)
+        }
+        def act = Files.readAllBytes(file)
+        then:
+        act.length == 1002
+        act[0] == (byte) 0x08
+        act[1001] == (byte) 0xff
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def "Writes into buffer writer larger than buffer"() {
+        setup:
+        def out = new ByteArrayOutputStream()
+        def wrt = new ScaleCodecBufferWriter(Channels.newChannel(out), 8)
+        def value = CompositeBytes.newBuilder()
+                .add(Hex.decodeHex("0102030405"))
+                .add(Hex.decodeHex("060708090a"))
+                .build()
+        when:
+        wrt.writeByte(0xff)
+        wrt.writeAsList(value)
+        wrt.flush()
+        then:
+        Hex.encodeHexString(out.toByteArray()) == "ff" + "28" + "0102030405060708090a"
+    }
+}
@@ -0,0 +1,180 @@
+package io.emeraldpay.polkaj.scale
+
+import io.emeraldpay.polkaj.scale.reader.ListReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class IncrementalDecoderSpec extends Specification {
+
+    def "Decodes complete value"() {
+        setup:
+        def decoder = new IncrementalDecoder(ScaleCodecReader.UINT16)
+        when:
+        def act = decoder.feed(Hex.decodeHex("2a00"))
+        then:
+        act.complete
+        act.value == 42
+        decoder.available() == 0
+    }
+
+    def "Asks for missing bytes"() {
+        setup:
+        def decoder = new IncrementalDecoder(ScaleCodecReader.STRING)
+        when:
+        def act = decoder.feed(Hex.decodeHex("14"))
+        then:
+        !act.complete
+        act.missing == 5
+
+        when:
+        act = decoder.feed(Hex.decodeHex("6865"))
+        then:
+        !act.complete
+        act.missing == 3
+
+        when:
+        act = decoder.feed(Hex.decodeHex("6c6c6f"))
+        then:
+        act.complete
+        act.value == "hello"
+    }
+
+    def "Error to get value of incomplete result"() {
+        setup:
+        def decoder = new IncrementalDecoder(ScaleCodecReader.UINT16)
+        when:
+        decoder.feed(Hex.decodeHex("2a")).value
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "Keeps data for the next value"() {
+        setup:
+        def decoder = new IncrementalDecoder(ScaleCodecReader.UINT16)
+        when:
+        def act = decoder.feed(Hex.decodeHex("2a00100017"))
+        then:
+        act.value == 42
+        decoder.poll().value == 16
+        !decoder.poll().complete
+
+        when:
+        act = decoder.feed(Hex.decodeHex("00"))
+        then:
+        act.value == 23
+    }
+
+    def "Decodes list from fragments"() {
+        setup:
+        def decoder = IncrementalDecoder.ofList(ScaleCodecReader.UINT16)
+        def data = Hex.decodeHex("18040008000f00100017002a00")
+        def act = null
+        when:
+        data.each { byte b ->
+            act = decoder.feed([b] as byte[])
+        }
+        then:
+        act.complete
+        act.value == [4, 8, 15, 16, 23, 42]
+    }
+
+    def "Resumes struct with list from fragments"() {
+        setup:
+        int calls = 0
+        def item = new ScaleReader<String>() {
+            @Override
+            String read(ScaleCodecReader rdr) {
+                calls++
+                return rdr.readString()
+            }
+        }
+        def struct = new ScaleReader<List>() {
+            @Override
+            List read(ScaleCodecReader rdr) {
+                return [rdr.readUint16(), rdr.read(new ListReader<>(item)), rdr.read(ScaleCodecReader.UINT16)]
+            }
+        }
+        def decoder = new IncrementalDecoder(struct)
+        def wrt = new ScaleCodecArrayWriter()
+        wrt.writeUint16(7)
+        wrt.writeCompact(50)
+        50.times { wrt.writeAsList("item$it".bytes) }
+        wrt.writeUint16(8)
+        def act = null
+        when:
+        wrt.toByteArray().each { byte b ->
+            act = decoder.feed([b] as byte[])
+        }
+        then:
+        act.complete
+        act.value[0] == 7
+        act.value[1].size() == 50
+        act.value[1][42] == "item42"
+        act.value[2] == 8
+        // each element is tried only when its length and then its data are available, and never decoded again
+        calls <= 50 * 3
+        decoder.available() == 0
+    }
+
+    def "Decodes next value from the beginning"() {
+        setup:
+        def decoder = new IncrementalDecoder(new ListReader<>(ScaleCodecReader.UINT16))
+        when:
+        def act = decoder.feed(Hex.decodeHex("080100"))
+        then:
+        !act.complete
+
+        when:
+        act = decoder.feed(Hex.decodeHex("0200" + "0803"))
+        then:
+        act.value == [1, 2]
+
+        when:
+        act = decoder.feed(Hex.decodeHex("000400"))
+        then:
+        act.value == [3, 4]
+    }
+
+    def "Reset drops the data"() {
+        setup:
+        def decoder = new IncrementalDecoder(ScaleCodecReader.UINT16)
+        decoder.feed(Hex.decodeHex("2a"))
+        when:
+        decoder.reset()
+        def act = decoder.feed(Hex.decodeHex("1000"))
+        then:
+        act.value == 16
+    }
+
+    def "Applies limits to the whole value across fragments"() {
+        setup:
+        def decoder = new IncrementalDecoder(new ListReader(new ListReader(ScaleCodecReader.UBYTE)))
+        decoder.setLimits(ScaleLimits.newBuilder().maxElements(5).build())
+        when:
+        decoder.feed(Hex.decodeHex("08"))
+        decoder.feed(Hex.decodeHex("0801"))
+        decoder.feed(Hex.decodeHex("02"))
+        decoder.feed(Hex.decodeHex("0803"))
+        then:
+        thrown(ScaleLimitException)
+        decoder.available() == 0
+    }
+
+    def "Fails when buffered data is above the limit"() {
+        setup:
+        def reader = { ScaleCodecReader rdr -> (0..<20).collect { rdr.readByte() } } as ScaleReader
+        def decoder = new IncrementalDecoder(reader)
+        decoder.setLimits(ScaleLimits.newBuilder().maxBytes(16).build())
+        when:
+        def act = decoder.feed(new byte[10])
+        then:
+        !act.complete
+        act.missing == 1
+
+        when:
+        decoder.feed(new byte[6])
+        then:
+        thrown(ScaleLimitException)
+        decoder.available() == 0
+    }
+}
@@ -0,0 +1,128 @@
+package io.emeraldpay.polkaj.scale
+
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class ScaleCodecArrayWriterSpec extends Specification {
+
+    def "Writes values"() {
+        setup:
+        def codec = new ScaleCodecArrayWriter()
+        when:
+        codec.writeUint16(1)
+        codec.writeAsList(Hex.decodeHex("0102"))
+        then:
+        codec.size() == 5
+        Hex.encodeHexString(codec.toByteArray()) == "0100080102"
+    }
+
+    def "Grows buffer"() {
+        setup:
+        def codec = new ScaleCodecArrayWriter(2)
+        when:
+        codec.writeUint32(0x04030201)
+        codec.writeByteArray(new byte[100])
+        then:
+        codec.size() == 104
+        codec.capacity() >= 104
+        Hex.encodeHexString(codec.toByteArray()).startsWith("0102030400")
+    }
+
+    def "Writes lower bytes of 16-bit values"() {
+        setup:
+        def codec = new ScaleCodecArrayWriter(1)
+        when:
+        codec.writeInt16(0x0201)
+        codec.writeUint16(0xfffe)
+        codec.writeInt16(0x7f0403)
+        then:
+        codec.size() == 6
+        Hex.encodeHexString(codec.toByteArray()) == "0102feff0304"
+    }
+
+    def "Reuses after reset"() {
+        setup:
+        def codec = new ScaleCodecArrayWriter()
+        codec.writeUint32(1)
+        when:
+        codec.reset()
+        codec.writeByte(2)
+        then:
+        Hex.encodeHexString(codec.toByteArray()) == "02"
+        codec.toByteData().toString() == "0x02"
+    }
+
+    def "Fills reserved length"() {
+        setup:
+        def writer = new ScaleCodecArrayWriter(4)
+        when:
+        def slot = writer.reserveCompact()
+        writer.writeByteArray(new byte[len])
+        writer.fillCompact(slot, writer.sizeAfter(slot))
+        def act = writer.toByteArray()
+        then:
+        Hex.encodeHexString(Arrays.copyOf(act, act.length - len)) == prefix
+        act.length == prefix.length() / 2 + len
+        where:
+        len   | prefix
+        0     | "00"
+        63    | "fc"
+        64    | "0101"
+        16384 | "02000100"
+    }
+
+    def "Fills nested reserved lengths"() {
+        setup:
+        def writer = new ScaleCodecArrayWriter()
+        when:
+        def outer = writer.reserveCompact()
+        def inner = writer.reserveCompact()
+        writer.writeByteArray(new byte[100])
+        writer.fillCompact(inner, writer.sizeAfter(inner))
+        writer.fillCompact(outer, writer.sizeAfter(outer))
+        def act = writer.toByteArray()
+        then:
+        act.length == 104
+        Hex.encodeHexString(Arrays.copyOf(act, 4)) == "99019101"
+    }
+
+    def "Fails to fill outer length first"() {
+        setup:
+        def writer = new ScaleCodecArrayWriter()
+        def outer = writer.reserveCompact()
+        writer.reserveCompact()
+        when:
+        writer.fillCompact(outer, 1)
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "Writes as list with known and unknown size"() {
+        setup:
+        def writer = new ScaleCodecArrayWriter()
+        ScaleWriter<byte[]> sized = new ScaleWriter<byte[]>() {
+            void write(ScaleCodecWriter wrt, byte[] value) { wrt.writeByteArray(value) }
+            int encodedSize(byte[] value) { value.length }
+        }
+        ScaleWriter<byte[]> unsized = { wrt, value -> wrt.writeByteArray(value) } as ScaleWriter<byte[]>
+        when:
+        writer.writeAsList(sized, [1, 2] as byte[])
+        writer.writeAsList(unsized, [3] as byte[])
+        then:
+        Hex.encodeHexString(writer.toByteArray()) == "0801020403"
+    }
+
+    def "Fails to write as list when declared size is wrong"() {
+        setup:
+        def writer = new ScaleCodecArrayWriter()
+        ScaleWriter<byte[]> wrong = new ScaleWriter<byte[]>() {
+            void write(ScaleCodecWriter wrt, byte[] value) { wrt.writeByteArray(value) }
+            int encodedSize(byte[] value) { value.length - 1 }
+        }
+        when:
+        writer.writeAsList(wrong, [1, 2, 3] as byte[])
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("wrote 3 bytes")
+    }
+}
@@ -0,0 +1,148 @@
+package io.emeraldpay.polkaj.scale
+
+import io.emeraldpay.polkaj.scale.reader.ListReader
+import io.emeraldpay.polkaj.scale.reader.UByteReader
+import io.emeraldpay.polkaj.scale.reader.BoolReader
+import io.emeraldpay.polkaj.scale.reader.UnionReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+
+class ScaleCodecBufferReaderSpec extends Specification {
+
+    def "Reads from heap buffer"() {
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("2a00")))
+        then:
+        codec.hasNext()
+        codec.readUint16() == 42
+        !codec.hasNext()
+    }
+
+    def "Reads from direct buffer"() {
+        setup:
+        def buf = ByteBuffer.allocateDirect(4)
+        buf.put(Hex.decodeHex("0401ff00"))
+        buf.flip()
+        when:
+        def codec = new ScaleCodecBufferReader(buf)
+        then:
+        Hex.encodeHexString(codec.readByteArray()) == "01"
+        codec.readUint16() == 255
+        !codec.hasNext()
+    }
+
+    def "Reads from current position of the buffer"() {
+        setup:
+        def buf = ByteBuffer.wrap(Hex.decodeHex("ff2a00"))
+        buf.position(1)
+        when:
+        def codec = new ScaleCodecBufferReader(buf)
+        then:
+        codec.readUint16() == 42
+        !codec.hasNext()
+        buf.position() == 1
+    }
+
+    def "Reads from mapped file"() {
+        setup:
+        def file = Files.createTempFile("scale", ".bin")
+        Files.write(file, Hex.decodeHex("18040008000f00100017002a00"))
+        def channel = FileChannel.open(file, StandardOpenOption.READ)
+        when:
+        def codec = ScaleCodecBufferReader.map(channel, 0, (int) channel.size())
+        then:
+        codec.read(new ListReader(ScaleCodecReader.UINT16)) == [4, 8, 15, 16, 23, 42]
+        !codec.hasNext()
+        cleanup:
+        channel.close()
+        Files.delete(file)
+    }
+
+    def "Reads union"() {
+        setup:
+        def reader = new UnionReader<Object>(new UByteReader(), new BoolReader())
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("0101")))
+        def act = codec.read(reader)
+        then:
+        act.index == 1
+        act.value == true
+    }
+
+    def "Reads bigint"() {
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("0700ffffffff")))
+        then:
+        codec.read(ScaleCodecReader.COMPACT_BIGINT).toString(16) == "ffffffff00"
+        !codec.hasNext()
+    }
+
+    def "Seek and read"() {
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("2a00")))
+        then:
+        codec.readUint16() == 42
+        !codec.hasNext()
+        codec.seek(0)
+        codec.hasNext()
+        codec.readUint16() == 42
+    }
+
+    def "Cannot seek over"() {
+        setup:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("2a00")))
+        when:
+        codec.seek(2)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Cannot skip bellow"() {
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("2a00")))
+        codec.readUint16()
+        codec.skip(-3)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Error to read over"() {
+        when:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("2a")))
+        codec.readUint16()
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Reads 32 and 64 bit values"() {
+        setup:
+        def codec = new ScaleCodecBufferReader(ByteBuffer.wrap(Hex.decodeHex("01020304ffffffff0102030405060708ffffffffffffffff")))
+        expect:
+        codec.readInt32() == 0x04030201
+        codec.readUint32() == 0xffffffffL
+        codec.readInt64() == 0x0807060504030201L
+        codec.readInt64() == -1L
+        !codec.hasNext()
+    }
+
+    def "Captures bytes since mark from direct buffer"() {
+        setup:
+        def buffer = ByteBuffer.allocateDirect(6)
+        buffer.put(Hex.decodeHex("ff0c010203ee")).flip()
+        def codec = new ScaleCodecBufferReader(buffer)
+        codec.readByte()
+        when:
+        def mark = codec.mark()
+        codec.readByteArray()
+        def act = codec.captureBuffer(mark)
+        then:
+        act.remaining() == 4
+        act.isReadOnly()
+        codec.capture(mark).contentEquals(Hex.decodeHex("0c010203"))
+    }
+}
@@ -0,0 +1,104 @@
+package io.emeraldpay.polkaj.scale
+
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
+
+class ScaleCodecBufferWriterSpec extends Specification {
+
+    static String hex(ByteBuffer buffer) {
+        byte[] data = new byte[buffer.remaining()]
+        buffer.get(data)
+        return Hex.encodeHexString(data)
+    }
+
+    def "Writes into heap buffer"() {
+        setup:
+        def target = ByteBuffer.allocate(16)
+        def writer = new ScaleCodecBufferWriter(target)
+        when:
+        writer.writeUint32(0x01020304)
+        writer.writeCompact(0x4000)
+        writer.writeInt64(-1)
+        then:
+        writer.size() == 16
+        hex(writer.toByteBuffer()) == "0403020102000100ffffffffffffffff"
+    }
+
+    def "Writes into direct buffer from its position"() {
+        setup:
+        def target = ByteBuffer.allocateDirect(8)
+        target.position(2)
+        def writer = new ScaleCodecBufferWriter(target)
+        when:
+        writer.writeUint16(0x0102)
+        then:
+        hex(writer.toByteBuffer()) == "0201"
+        target.position() == 2
+    }
+
+    def "Fails when buffer is full"() {
+        setup:
+        def writer = new ScaleCodecBufferWriter(ByteBuffer.allocate(3))
+        when:
+        writer.writeUint32(1)
+        then:
+        thrown(BufferOverflowException)
+    }
+
+    def "Writes into channel"() {
+        setup:
+        def out = new ByteArrayOutputStream()
+        def writer = new ScaleCodecBufferWriter(Channels.newChannel(out), 8)
+        when:
+        writer.writeUint32(0x01020304)
+        writer.writeUint32(0x05060708)
+        writer.writeAsList(Hex.decodeHex("0102030405060708090a"))
+        writer.writeByte(0xff)
+        writer.flush()
+        then:
+        Hex.encodeHexString(out.toByteArray()) == "0403020108070605" + "28" + "0102030405060708090a" + "ff"
+    }
+
+    def "Fills reserved length"() {
+        setup:
+        def target = ByteBuffer.allocateDirect(128)
+        def writer = new ScaleCodecBufferWriter(target)
+        when:
+        def slot = writer.reserveCompact()
+        writer.writeByteArray(new byte[100])
+        writer.fillCompact(slot, writer.sizeAfter(slot))
+        def act = writer.toByteBuffer()
+        then:
+        act.remaining() == 102
+        act.get(0) == (byte) 0x91
+        act.get(1) == (byte) 0x01
+    }
+
+    def "Keeps reserved length in buffer when flushing to channel"() {
+        setup:
+        def out = new ByteArrayOutputStream()
+        def writer = new ScaleCodecBufferWriter(Channels.newChannel(out), 8)
+        when:
+        writer.writeUint32(0x01020304)
+        def slot = writer.reserveCompact()
+        writer.writeUint32(0x05060708)
+        writer.fillCompact(slot, writer.sizeAfter(slot))
+        writer.flush()
+        then:
+        Hex.encodeHexString(out.toByteArray()) == "04030201" + "10" + "08070605"
+    }
+
+    def "Fails to flush with reserved length"() {
+        setup:
+        def writer = new ScaleCodecBufferWriter(Channels.newChannel(new ByteArrayOutputStream()), 8)
+        writer.reserveCompact()
+        when:
+        writer.flush()
+        then:
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,38 @@
+package io.emeraldpay.polkaj.scale
+
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class ScaleCodecHexWriterSpec extends Specification {
+
+    def "Writes hex digits"() {
+        setup:
+        def sb = new StringBuilder()
+        def wrt = new ScaleCodecHexWriter(sb)
+        when:
+        wrt.writeByte(0xff)
+        wrt.writeUint32(0x0a0b0c0d)
+        wrt.writeAsList(Hex.decodeHex("00107f80"))
+        then:
+        sb.toString() == "ff" + "0d0c0b0a" + "1000107f80"
+    }
+
+    def "Writes with prefix"() {
+        setup:
+        def sb = new StringBuilder()
+        def wrt = ScaleCodecHexWriter.withPrefix(sb)
+        when:
+        wrt.writeCompact(1)
+        then:
+        sb.toString() == "0x04"
+    }
+
+    def "Doesn't support reserved length"() {
+        setup:
+        def wrt = new ScaleCodecHexWriter(new StringBuilder())
+        when:
+        wrt.reserveCompact()
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -1,5 +1,8 @@
 package io.emeraldpay.polkaj.scale
 
+import io.emeraldpay.polkaj.scale.reader.ListReader
+import io.emeraldpay.polkaj.scale.reader.SpannedReader
+import io.emeraldpay.polkaj.scale.reader.UByteReader
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
 
@@ -145,4 +148,118 @@ class ScaleCodecReaderSpec extends Specification {
         where:
         hex << ["bb931fd17f85fb26e8209eb7af5747258163df29a7dd8f87fa7617963fcfa1aa"]
     }
+
+    def "Reads after reset"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("01"))
+        codec.readUByte()
+        when:
+        codec.reset(Hex.decodeHex("ff0203ff"), 1, 2)
+        then:
+        codec.getPosition() == 0
+        codec.readUint16() == 0x0302
+        !codec.hasNext()
+    }
+
+    def "Cannot reset to outside of source"() {
+        when:
+        new ScaleCodecReader(new byte[0]).reset(new byte[2], 1, 2)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Fails to read byte array longer than the limit"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c010203"))
+        codec.setLimits(ScaleLimits.newBuilder().maxLength(2).build())
+        when:
+        codec.readByteArray()
+        then:
+        thrown(ScaleLimitException)
+    }
+
+    def "Fails to read more bytes than the total limit"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("080102080102080102"))
+        codec.setLimits(ScaleLimits.newBuilder().maxBytes(5).build())
+        when:
+        codec.readByteArray()
+        codec.readByteArray()
+        then:
+        notThrown(ScaleLimitException)
+        when:
+        codec.readByteArray()
+        then:
+        thrown(ScaleLimitException)
+    }
+
+    def "Resets usage of limits"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("080102080102080102"))
+        codec.setLimits(ScaleLimits.newBuilder().maxBytes(4).build())
+        when:
+        codec.readByteArray()
+        codec.readByteArray()
+        codec.resetUsage()
+        def act = codec.readByteArray()
+        then:
+        act == [1, 2] as byte[]
+    }
+
+    def "Reads 32 and 64 bit values"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("01020304ffffffff0102030405060708ffffffffffffffff"))
+        expect:
+        codec.readInt32() == 0x04030201
+        codec.readInt32() == -1
+        codec.readInt64() == 0x0807060504030201L
+        codec.readInt64() == -1L
+        !codec.hasNext()
+    }
+
+    def "Fails to read 32 bit value from short data"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("010203"))
+        when:
+        codec.readInt32()
+        then:
+        thrown(ScaleUnderflowException)
+    }
+
+    def "Captures bytes since mark"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("ff0c010203ee"))
+        codec.readByte()
+        when:
+        def mark = codec.mark()
+        codec.readByteArray()
+        def act = codec.capture(mark)
+        then:
+        mark == 1
+        act.contentEquals(Hex.decodeHex("0c010203"))
+        codec.readUByte() == 0xee
+    }
+
+    def "Reads value with its bytes"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("ff08010203"))
+        codec.readByte()
+        when:
+        def act = codec.read(new SpannedReader<>(new ListReader<>(new UByteReader())))
+        then:
+        act.value == [1, 2]
+        act.start == 1
+        act.end == 4
+        act.bytes.contentEquals(Hex.decodeHex("080102"))
+        codec.readUByte() == 3
+    }
+
+    def "Fails to capture from mark after position"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0102"))
+        when:
+        codec.capture(1)
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
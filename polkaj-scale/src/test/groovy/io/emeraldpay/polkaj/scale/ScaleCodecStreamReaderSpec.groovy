@@ -0,0 +1,190 @@
+package io.emeraldpay.polkaj.scale
+
+import io.emeraldpay.polkaj.scale.reader.ByteSliceReader
+import io.emeraldpay.polkaj.scale.reader.ListReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+import java.nio.channels.Channels
+import java.util.stream.Collectors
+
+class ScaleCodecStreamReaderSpec extends Specification {
+
+    def "Reads from input stream"() {
+        when:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(Hex.decodeHex("2a000401")))
+        then:
+        codec.hasNext()
+        codec.readUint16() == 42
+        Hex.encodeHexString(codec.readByteArray()) == "01"
+        !codec.hasNext()
+    }
+
+    def "Reads from channel"() {
+        setup:
+        def channel = Channels.newChannel(new ByteArrayInputStream(Hex.decodeHex("18040008000f00100017002a00")))
+        when:
+        def codec = new ScaleCodecStreamReader(channel)
+        then:
+        codec.read(new ListReader(ScaleCodecReader.UINT16)) == [4, 8, 15, 16, 23, 42]
+        !codec.hasNext()
+    }
+
+    def "Reads data larger than buffer"() {
+        setup:
+        def buf = new ByteArrayOutputStream()
+        def wrt = new ScaleCodecWriter(buf)
+        wrt.writeCompact(1000)
+        1000.times { wrt.writeUint32(it) }
+        byte[] bytes = new byte[300]
+        bytes[299] = 1
+        wrt.writeAsList(bytes)
+        when:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(buf.toByteArray()), 32)
+        def list = codec.read(new ListReader(ScaleCodecReader.UINT32))
+        def act = codec.readByteArray()
+        then:
+        list.size() == 1000
+        list[999] == 999
+        act == bytes
+        !codec.hasNext()
+        codec.getStreamPosition() == buf.size()
+    }
+
+    def "Streams list elements"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(Hex.decodeHex("18040008000f00100017002a00")), 20)
+        when:
+        def act = new ListReader(ScaleCodecReader.UINT16).stream(codec)
+                .filter { it > 10 }
+                .collect(Collectors.toList())
+        then:
+        act == [15, 16, 23, 42]
+    }
+
+    def "Can skip back within buffer"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(Hex.decodeHex("2a00")))
+        when:
+        codec.readUint16()
+        codec.skip(-2)
+        then:
+        codec.readUint16() == 42
+    }
+
+    def "Error to read over"() {
+        when:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(Hex.decodeHex("0801")))
+        codec.readByteArray()
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Fails with a huge length before reading data"() {
+        setup:
+        // compact length of ~1 Gb, without actual data
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(Hex.decodeHex("feffffff")))
+        codec.setLimits(ScaleLimits.newBuilder().maxLength(1024).build())
+        when:
+        codec.readByteArray()
+        then:
+        def t = thrown(ScaleLimitException)
+        t.message.contains("1024")
+    }
+
+    def "Reads byte array longer than the buffer"() {
+        setup:
+        def data = new byte[5000]
+        data[4999] = 1
+        def out = new ByteArrayOutputStream()
+        new ScaleCodecWriter(out).writeAsList(data)
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(out.toByteArray()), 64)
+        when:
+        def act = codec.readByteArray()
+        then:
+        act == data
+        !codec.hasNext()
+    }
+
+    def "Captures bytes longer than the buffer"() {
+        setup:
+        def data = new byte[100]
+        data[99] = 1
+        def out = new ByteArrayOutputStream()
+        def wrt = new ScaleCodecWriter(out)
+        wrt.writeByte(0xff)
+        wrt.writeAsList(data)
+        wrt.writeByte(0xee)
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(out.toByteArray()), 32)
+        codec.readByte()
+        when:
+        def act = codec.readSpanned(new ByteSliceReader())
+        then:
+        act.start == 1
+        act.end == 103
+        act.bytes.length() == 102
+        act.bytes.get(0) == (byte) 0x91
+        act.bytes.get(101) == (byte) 1
+        codec.readUByte() == 0xee
+    }
+
+    def "Fails to seek back beyond buffered data"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(new byte[200]), 32)
+        codec.skip(100)
+        when:
+        codec.seek(5)
+        then:
+        thrown(IllegalArgumentException)
+        codec.getPosition() == 100
+    }
+
+    def "Fails to skip back by min int"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(new byte[10]))
+        codec.skip(4)
+        when:
+        codec.skip(Integer.MIN_VALUE)
+        then:
+        thrown(IllegalArgumentException)
+        codec.getPosition() == 4
+    }
+
+    def "Releases mark when spanned read fails"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream(new byte[1000]), 32)
+        def failing = new ScaleReader<Integer>() {
+            @Override
+            Integer read(ScaleCodecReader rdr) {
+                rdr.skip(2)
+                throw new IllegalStateException("Invalid value")
+            }
+        }
+        when:
+        codec.readSpanned(failing)
+        then:
+        thrown(IllegalStateException)
+        when:
+        codec.skip(500)
+        codec.capture(0)
+        then:
+        // the data since the failed read is not kept anymore
+        thrown(IllegalArgumentException)
+        codec.getPosition() == 502
+    }
+
+    def "Keeps data for outer mark after spanned read"() {
+        setup:
+        def codec = new ScaleCodecStreamReader(new ByteArrayInputStream((0..99).collect { it as byte } as byte[]), 32)
+        when:
+        def mark = codec.mark()
+        def inner = codec.readSpanned(new ByteSliceReader(40))
+        codec.skip(20)
+        def act = codec.capture(mark)
+        codec.release(mark)
+        then:
+        inner.bytes.length() == 40
+        act.length() == 60
+        act.get(59) == (byte) 59
+    }
+}
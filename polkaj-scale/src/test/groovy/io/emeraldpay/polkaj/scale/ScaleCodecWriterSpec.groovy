@@ -1,5 +1,6 @@
 package io.emeraldpay.polkaj.scale
 
+import io.emeraldpay.polkaj.types.ByteData
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
 
@@ -108,4 +109,43 @@ class ScaleCodecWriterSpec extends Specification {
         then:
         Hex.encodeHexString(act) == "000600000003000000017d010000bb931fd17f85fb26e8209eb7af5747258163df29a7dd8f87fa7617963fcfa1aab0a8d493285c2df73290dfb7e61f870f17b41801197a149ca93654499ea3dafe0400"
     }
+
+    def "Writes value as list with known size"() {
+        when:
+        codec.writeAsList(ScaleCodecWriter.UINT16, 0x0102)
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "080201"
+    }
+
+    def "Writes value as list with unknown size"() {
+        setup:
+        ScaleWriter<String> writer = { wrt, value -> wrt.writeByteArray(value.getBytes()) } as ScaleWriter<String>
+        when:
+        codec.writeAsList(writer, "abc")
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "0c616263"
+    }
+
+    def "Fills reserved length in output stream"() {
+        when:
+        def slot = codec.reserveCompact()
+        codec.writeUint16(0x0102)
+        then:
+        buf.size() == 0
+        when:
+        codec.fillCompact(slot, codec.sizeAfter(slot))
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "080201"
+    }
+
+    def "Writes ByteData as is and as list"() {
+        setup:
+        def buf = new ByteArrayOutputStream()
+        def codec = new ScaleCodecWriter(buf)
+        when:
+        codec.writeBytes(ByteData.from("0x0102"))
+        codec.writeAsList(ByteData.from("0x0304"))
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "0102080304"
+    }
 }
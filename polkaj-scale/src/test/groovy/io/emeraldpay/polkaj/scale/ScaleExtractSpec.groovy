@@ -1,5 +1,8 @@
 package io.emeraldpay.polkaj.scale
 
+import io.emeraldpay.polkaj.scale.reader.ByteSliceReader
+import io.emeraldpay.polkaj.scale.reader.StringReader
+import io.emeraldpay.polkaj.scale.reader.UInt32ArrayReader
 import io.emeraldpay.polkaj.types.ByteData
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
@@ -43,4 +46,116 @@ class ScaleExtractSpec extends Specification {
         then:
         thrown(NullPointerException)
     }
+
+    def "Reads with nested reads"() {
+        setup:
+        def nested = new ScaleReader<String>() {
+            @Override
+            String read(ScaleCodecReader rdr) {
+                def inner = ScaleExtract.read(ScaleCodecReader.STRING, Hex.decodeHex("0c616263"), 0, 4)
+                return inner + rdr.readString()
+            }
+        }
+        when:
+        def act = ScaleExtract.read(nested, Hex.decodeHex("000c646566"), 1, 4)
+        then:
+        act == "abcdef"
+        ScaleExtract.read(ScaleCodecReader.STRING, Hex.decodeHex("0478"), 0, 2) == "x"
+    }
+
+    def "Writes with reused writer"() {
+        expect:
+        Hex.encodeHexString(ScaleExtract.write(ScaleCodecWriter.UINT16, 1)) == "0100"
+        Hex.encodeHexString(ScaleExtract.write(ScaleCodecWriter.UINT32, 2)) == "02000000"
+    }
+
+    def "Extracts from hex string"() {
+        setup:
+        def fn = ScaleExtract.fromHex(ScaleCodecReader.STRING)
+        expect:
+        fn.apply("0x0c616263") == "abc"
+        fn.apply("0C646566") == "def"
+        fn.apply(new StringBuilder("0x0478")) == "x"
+    }
+
+    def "Keeps hex source referenced by a slice"() {
+        setup:
+        def slice = new ScaleReader<ByteSlice>() {
+            @Override
+            ByteSlice read(ScaleCodecReader rdr) {
+                return rdr.readByteSlice(3)
+            }
+        }
+        when:
+        def first = ScaleExtract.readHex(slice, "0x616263")
+        def second = ScaleExtract.readHex(slice, "0x646566")
+        def str = ScaleExtract.readHex(ScaleCodecReader.STRING, "0x0c676869")
+        then:
+        first.toUtf8String() == "abc"
+        second.toUtf8String() == "def"
+        str == "ghi"
+    }
+
+    def "Reuses hex source for values without slices"() {
+        expect:
+        ScaleExtract.readHex(ScaleCodecReader.STRING, "0x18616263646566") == "abcdef"
+        ScaleExtract.readHex(ScaleCodecReader.STRING, "0x0c676869") == "ghi"
+        ScaleExtract.readHex(ScaleCodecReader.UINT16, "0x0100") == 1
+    }
+
+    def "Reuses hex source after reading strings and arrays"() {
+        when:
+        ScaleExtract.readHex(ScaleCodecReader.STRING, "0x18616263646566")
+        def source = ScaleExtract.HEX_SOURCE.get()
+        def act = ScaleExtract.readHex(new StringReader(16), "0x0c646566")
+        then:
+        source != null
+        act == "def"
+        ScaleExtract.HEX_SOURCE.get().is(source)
+
+        when:
+        def array = ScaleExtract.readHex(new UInt32ArrayReader(), "0x040100")
+        then:
+        thrown(ScaleUnderflowException)
+
+        when:
+        array = ScaleExtract.readHex(new UInt32ArrayReader(), "0x0401000000")
+        then:
+        array == [1] as int[]
+        ScaleExtract.HEX_SOURCE.get().is(source)
+
+        when:
+        def slice = ScaleExtract.readHex(new ByteSliceReader(3), "0x616263")
+        then:
+        slice.toUtf8String() == "abc"
+        ScaleExtract.HEX_SOURCE.get() == null
+    }
+
+    def "Extracts slice from bytes data without exposing it"() {
+        setup:
+        def data = ByteData.from("0x0c616263")
+        when:
+        def act = ScaleExtract.fromBytesData(new ScaleReader<ByteSlice>() {
+            @Override
+            ByteSlice read(ScaleCodecReader rdr) {
+                return rdr.readByteSlice()
+            }
+        }).apply(data)
+        then:
+        act.toUtf8String() == "abc"
+        data.toString() == "0x0c616263"
+    }
+
+    def "Fails to extract from invalid hex"() {
+        when:
+        ScaleExtract.readHex(ScaleCodecReader.STRING, "0x0c6162zz")
+        then:
+        thrown(NumberFormatException)
+    }
+
+    def "Writes hex with reused writer"() {
+        expect:
+        ScaleExtract.writeHex(ScaleCodecWriter.UINT16, 1) == "0x0100"
+        ScaleExtract.writeHex(ScaleCodecWriter.UINT32, 0xff) == "0xff000000"
+    }
 }
@@ -0,0 +1,40 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.types.UInt128
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class CompactUInt128ReaderSpec extends Specification {
+
+    CompactUInt128Reader reader = new CompactUInt128Reader()
+
+    def "Reads"() {
+        expect:
+        def codec = new ScaleCodecReader(Hex.decodeHex(encoded))
+        codec.read(reader).toString() == value
+        !codec.hasNext()
+
+        where:
+        encoded                                 | value
+        "00"                                    | "0"
+        "a8"                                    | "42"
+        "fdff"                                  | "16383"
+        "feffffff"                              | "1073741823"
+        "03ffffffff"                            | "4294967295"
+        "13ffffffffffffffff"                    | "18446744073709551615"
+        "33aabbccddeeff00112233445566778899"    | "204080457442256950375158822971602942890"
+    }
+
+    def "Reads zero as constant"() {
+        expect:
+        new ScaleCodecReader(Hex.decodeHex("00")).read(reader).is(UInt128.ZERO)
+    }
+
+    def "Error for value larger than 128 bits"() {
+        when:
+        new ScaleCodecReader(Hex.decodeHex("37aabbccddeeff0011223344556677889900")).read(reader)
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -0,0 +1,47 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class CompactULongReaderSpec extends Specification {
+
+    def reader = new CompactULongReader()
+
+    def "Reads compact values"() {
+        expect:
+        def codec = new ScaleCodecReader(Hex.decodeHex(encoded))
+        codec.readLong(reader) == value
+        !codec.hasNext()
+
+        where:
+        encoded                 | value
+        "00"                    | 0L
+        "fc"                    | 63L
+        "fdff"                  | 16383L
+        "feffffff"              | 0x3f_ff_ff_ffL
+        "0300000040"            | 0x40_00_00_00L
+        "03ffffffff"            | 0xff_ff_ff_ffL
+        "070000000001"          | 0x01_00_00_00_00L
+        "13ffffffffffffff7f"    | Long.MAX_VALUE
+    }
+
+    def "Reads as compact long"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("070000000001"))
+        then:
+        codec.readCompactLong() == 0x01_00_00_00_00L
+    }
+
+    def "Error for value larger than long"() {
+        when:
+        new ScaleCodecReader(Hex.decodeHex("13ffffffffffffffff")).readLong(reader)
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        new ScaleCodecReader(Hex.decodeHex("17ffffffffffffffff01")).readLong(reader)
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
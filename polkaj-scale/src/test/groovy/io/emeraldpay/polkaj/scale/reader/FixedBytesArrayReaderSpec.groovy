@@ -0,0 +1,34 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class FixedBytesArrayReaderSpec extends Specification {
+
+    def reader = new FixedBytesArrayReader(2)
+
+    def "Reads"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c010203040506ff"))
+        def act = codec.read(reader)
+        then:
+        Hex.encodeHexString(act) == "010203040506"
+        codec.readUByte() == 255
+    }
+
+    def "Skips"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c010203040506ff"))
+        reader.skip(codec)
+        then:
+        codec.readUByte() == 255
+    }
+
+    def "Cannot create with zero width"() {
+        when:
+        new FixedBytesArrayReader(0)
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
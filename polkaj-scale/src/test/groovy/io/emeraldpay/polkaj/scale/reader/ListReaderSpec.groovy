@@ -1,6 +1,8 @@
 package io.emeraldpay.polkaj.scale.reader
 
 import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.scale.ScaleLimitException
+import io.emeraldpay.polkaj.scale.ScaleLimits
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
 
@@ -16,4 +18,101 @@ class ListReaderSpec extends Specification {
         codec.read(reader) == [4, 8, 15, 16, 23, 42]
         !codec.hasNext()
     }
+
+    def "Iterates list of 16-bit ints"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("18040008000f00100017002a00"))
+        def act = reader.iterator(codec)
+        then:
+        act.hasNext()
+        act.next() == 4
+        act.collect() == [8, 15, 16, 23, 42]
+        !act.hasNext()
+        !codec.hasNext()
+    }
+
+    def "Skips list of 16-bit ints"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("18040008000f00100017002a0001"))
+        reader.skip(codec)
+        then:
+        codec.getPosition() == 13
+        codec.readUByte() == 1
+    }
+
+    def "Skips list of strings"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("080c616263046401"))
+        new ListReader(ScaleCodecReader.STRING).skip(codec)
+        then:
+        codec.readUByte() == 1
+    }
+
+    def "Reads lazy list of 16-bit ints"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("18040008000f00100017002a0001"))
+        def act = reader.readLazy(codec)
+        then:
+        codec.readUByte() == 1
+        act.size() == 6
+        act.get(5) == 42
+        act.get(1) == 8
+        act == [4, 8, 15, 16, 23, 42]
+    }
+
+    def "Reads lazy list of strings"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c0c616263000464"))
+        def act = new ListReader(ScaleCodecReader.STRING).readLazy(codec, true)
+        then:
+        !codec.hasNext()
+        act.get(2) == "d"
+        act.get(0) == "abc"
+        act.get(2).is(act.get(2))
+        act == ["abc", "", "d"]
+    }
+
+    def "Fails to access lazy list outside of its size"() {
+        setup:
+        def act = reader.readLazy(new ScaleCodecReader(Hex.decodeHex("040100")))
+        when:
+        act.get(1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Fails to read list with more elements than the limit"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c010203"))
+        codec.setLimits(ScaleLimits.newBuilder().maxElements(2).build())
+        when:
+        reader.read(codec)
+        then:
+        thrown(ScaleLimitException)
+    }
+
+    def "Fails to read a list with huge size and no data"() {
+        setup:
+        // compact size of 0x3fffffff
+        def codec = new ScaleCodecReader(Hex.decodeHex("feffffff"))
+        when:
+        reader.read(codec)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Iterates lazy list many times with limits"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c" + "0c616263" * 3))
+        codec.setLimits(ScaleLimits.newBuilder().maxBytes(20).build())
+        def act = new ListReader(ScaleCodecReader.STRING).readLazy(codec)
+        when:
+        def all = []
+        5.times {
+            all.addAll(act)
+        }
+        then:
+        all.size() == 15
+        all.every { it == "abc" }
+    }
 }
@@ -0,0 +1,31 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class OptionalReaderSpec extends Specification {
+
+    def reader = new OptionalReader(ScaleCodecReader.UINT16)
+
+    def "Reads optional value"() {
+        expect:
+        new ScaleCodecReader(Hex.decodeHex(hex)).read(reader) == value
+        where:
+        hex      | value
+        "00"     | Optional.empty()
+        "010f00" | Optional.of(15)
+    }
+
+    def "Skips optional value"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex(hex))
+        reader.skip(codec)
+        then:
+        codec.getPosition() == pos
+        where:
+        hex        | pos
+        "0001"     | 1
+        "010f0001" | 3
+    }
+}
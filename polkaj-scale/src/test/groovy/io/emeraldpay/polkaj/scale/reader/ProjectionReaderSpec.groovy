@@ -0,0 +1,48 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class ProjectionReaderSpec extends Specification {
+
+    def "Reads selected fields"() {
+        setup:
+        // u8, string, u16, compact, u32
+        def codec = new ScaleCodecReader(Hex.decodeHex("010c6162630200fd03ff000000"))
+        def reader = ProjectionReader.builder()
+                .skip(ScaleCodecReader.UBYTE)
+                .field(ScaleCodecReader.STRING)
+                .skip(ScaleCodecReader.UINT16)
+                .skip(ScaleCodecReader.COMPACT_UINT)
+                .field(ScaleCodecReader.UINT32)
+                .build { values -> values[0] + ":" + values[1] }
+        when:
+        def act = codec.read(reader)
+        then:
+        act == "abc:255"
+        !codec.hasNext()
+    }
+
+    def "Skips all fields"() {
+        setup:
+        def codec = new ScaleCodecReader(Hex.decodeHex("010c61626302000f"))
+        def reader = ProjectionReader.builder()
+                .skip(2)
+                .field(ScaleCodecReader.STRING)
+                .skip(ScaleCodecReader.UINT16)
+                .build { values -> values[0] }
+        when:
+        codec.skip(1)
+        reader.skip(codec)
+        then:
+        codec.readUByte() == 15
+    }
+
+    def "Fails on negative skip"() {
+        when:
+        ProjectionReader.builder().skip(-1)
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -18,4 +18,33 @@ class StringReaderSpec extends Specification {
         then:
         act == "Hello World!"
     }
+
+    def "Read UTF-8"() {
+        when:
+        // "Privet" in Cyrillic
+        def codec = new ScaleCodecReader(Hex.decodeHex("30" + "d09fd180d0b8d0b2d0b5d182"))
+        def act = codec.read(reader)
+        then:
+        act == "\u041f\u0440\u0438\u0432\u0435\u0442"
+    }
+
+    def "Read same instance from cache"() {
+        setup:
+        def cached = new StringReader(16)
+        when:
+        def first = new ScaleCodecReader(Hex.decodeHex("2042616c616e636573")).read(cached)
+        def second = new ScaleCodecReader(Hex.decodeHex("002042616c616e636573"), 1, 9).read(cached)
+        def other = new ScaleCodecReader(Hex.decodeHex("1853797374656d")).read(cached)
+        then:
+        first == "Balances"
+        first.is(second)
+        other == "System"
+    }
+
+    def "Cannot create with invalid cache size"() {
+        when:
+        new StringReader(0)
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -0,0 +1,19 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class UInt128ArrayReaderSpec extends Specification {
+
+    def reader = new UInt128ArrayReader()
+
+    def "Reads"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("08" + "01000000000000000000000000000000" + "ffffffffffffffff0200000000000000"))
+        def act = codec.read(reader)
+        then:
+        act == [1L, 0L, -1L, 2L] as long[]
+        !codec.hasNext()
+    }
+}
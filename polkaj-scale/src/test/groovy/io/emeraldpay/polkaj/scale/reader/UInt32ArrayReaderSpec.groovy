@@ -0,0 +1,42 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class UInt32ArrayReaderSpec extends Specification {
+
+    def reader = new UInt32ArrayReader()
+
+    def "Reads"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0c01000000ffffff00ffffffff"))
+        def act = codec.read(reader)
+        then:
+        act == [1, 16777215, -1] as int[]
+        !codec.hasNext()
+    }
+
+    def "Reads empty"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("00"))
+        def act = codec.read(reader)
+        then:
+        act.length == 0
+    }
+
+    def "Skips"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("080100000002000000ff"))
+        reader.skip(codec)
+        then:
+        codec.readUByte() == 255
+    }
+
+    def "Fails if not enough data"() {
+        when:
+        new ScaleCodecReader(Hex.decodeHex("0c01000000")).read(reader)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
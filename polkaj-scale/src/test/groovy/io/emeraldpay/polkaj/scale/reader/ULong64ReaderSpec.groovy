@@ -0,0 +1,25 @@
+package io.emeraldpay.polkaj.scale.reader
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class ULong64ReaderSpec extends Specification {
+
+    ULong64Reader reader = new ULong64Reader()
+
+    def "Reads"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("f70af5f6f3c84305"))
+        then:
+        codec.readLong(reader) == 379367743775116023L
+        !codec.hasNext()
+    }
+
+    def "Reads large value as unsigned"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("ffffffffffffffff"))
+        then:
+        Long.toUnsignedString(codec.readLong(reader)) == "18446744073709551615"
+    }
+}
@@ -46,4 +46,34 @@ class UnionReaderSpec extends Specification {
             value == 42
         }
     }
+
+    def "Reads same instance for unit variant"() {
+        setup:
+        UnionReader<Object> reader = new UnionReader<>(new UnitReader<>("none"), new UByteReader())
+        when:
+        def first = new ScaleCodecReader(Hex.decodeHex("00")).read(reader)
+        def second = new ScaleCodecReader(Hex.decodeHex("00")).read(reader)
+        then:
+        first.index == 0
+        first.value == "none"
+        first.is(second)
+        new ScaleCodecReader(Hex.decodeHex("012a")).read(reader).value == 42
+    }
+
+    def "Skips value"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("002a01"))
+        reader.skip(codec)
+        then:
+        codec.readUByte() == 1
+    }
+
+    def "Reads with visitor"() {
+        when:
+        def codec = new ScaleCodecReader(Hex.decodeHex("0101"))
+        def act = codec.readUnion { index, rdr -> index == 1 ? "bool:" + rdr.readBoolean() : "byte:" + rdr.readUByte() }
+        then:
+        act == "bool:true"
+        !codec.hasNext()
+    }
 }
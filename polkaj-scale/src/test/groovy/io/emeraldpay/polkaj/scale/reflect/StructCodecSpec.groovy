@@ -0,0 +1,128 @@
+package io.emeraldpay.polkaj.scale.reflect
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.scale.ScaleExtract
+import io.emeraldpay.polkaj.scale.ScaleWriter
+import io.emeraldpay.polkaj.scale.annotation.ScaleCompact
+import io.emeraldpay.polkaj.scale.annotation.ScaleEnum
+import io.emeraldpay.polkaj.scale.annotation.ScaleField
+import io.emeraldpay.polkaj.scale.annotation.ScaleOptional
+import io.emeraldpay.polkaj.scale.annotation.ScaleStruct
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class StructCodecSpec extends Specification {
+
+    enum Kind { A, B }
+
+    @ScaleStruct
+    static class Transfer {
+        @ScaleField(1) @ScaleCompact public BigInteger amount
+        @ScaleField(0) public short module
+        @ScaleField(2) @ScaleOptional public String memo
+        @ScaleField(3) @ScaleEnum public List<Kind> kinds
+        @ScaleField(4) @ScaleCompact public int nonce
+        public int ignored
+    }
+
+    @ScaleStruct
+    static class Flags {
+        @ScaleField(0) public byte tag
+        @ScaleField(1) public boolean enabled
+        @ScaleField(2) @ScaleCompact public long counter
+        @ScaleField(3) public long total
+        @ScaleField(4) @ScaleOptional public Flags next
+    }
+
+    @ScaleStruct
+    static class Empty {
+    }
+
+    @ScaleStruct
+    static class Invalid {
+        @ScaleField(0) public double value
+    }
+
+    def "Reads struct"() {
+        when:
+        def act = new ScaleCodecReader(Hex.decodeHex("0605" + "02093d00" + "010c616263" + "080100" + "04"))
+                .read(StructCodec.of(Transfer))
+        then:
+        act.module == 0x0506 as short
+        act.amount == 1000000
+        act.memo == "abc"
+        act.kinds == [Kind.B, Kind.A]
+        act.nonce == 1
+    }
+
+    def "Writes struct"() {
+        setup:
+        def value = new Transfer(module: 0x0506, amount: 1000000, memo: null, kinds: [Kind.B, Kind.A], nonce: 1)
+        when:
+        def act = ScaleExtract.write(StructCodec.of(Transfer), value)
+        then:
+        Hex.encodeHexString(act) == "0605" + "02093d00" + "00" + "080100" + "04"
+    }
+
+    def "Caches codec"() {
+        expect:
+        StructCodec.of(Transfer).is(StructCodec.of(Transfer))
+    }
+
+    def "Fails on unsupported type"() {
+        when:
+        StructCodec.of(Invalid)
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message.startsWith("Type is not supported")
+    }
+
+    def "Fails on class without annotation"() {
+        when:
+        StructCodec.of(String)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Calculates encoded size of struct"() {
+        setup:
+        def value = new Transfer(module: 0x0506, amount: 1000000, memo: null, kinds: [Kind.B, Kind.A], nonce: 1)
+        expect:
+        StructCodec.of(Transfer).encodedSize(value) == 11
+    }
+
+    def "Unknown encoded size of struct with a string"() {
+        setup:
+        def value = new Transfer(module: 0x0506, amount: 1000000, memo: "abc", kinds: [], nonce: 1)
+        expect:
+        StructCodec.of(Transfer).encodedSize(value) == ScaleWriter.UNKNOWN_SIZE
+    }
+
+    def "Reads and writes primitive and nested fields"() {
+        setup:
+        def value = new Flags(tag: -1, enabled: true, counter: 1L << 40, total: 7, next: new Flags(tag: 1, total: 9))
+        def hex = "ff" + "01" + "0b000000000001" + "0700000000000000" + "01" +
+                "01" + "00" + "00" + "0900000000000000" + "00"
+        when:
+        def act = ScaleExtract.write(StructCodec.of(Flags), value)
+        def read = new ScaleCodecReader(act).read(StructCodec.of(Flags))
+        then:
+        Hex.encodeHexString(act) == hex
+        StructCodec.of(Flags).encodedSize(value) == act.length
+        read.tag == -1 as byte
+        read.enabled
+        read.counter == 1L << 40
+        read.total == 7
+        read.next.tag == 1 as byte
+        !read.next.enabled
+        read.next.total == 9
+        read.next.next == null
+    }
+
+    def "Reads and writes struct without fields"() {
+        expect:
+        ScaleExtract.write(StructCodec.of(Empty), new Empty()).length == 0
+        StructCodec.of(Empty).encodedSize(new Empty()) == 0
+        new ScaleCodecReader(new byte[0]).read(StructCodec.of(Empty)) instanceof Empty
+    }
+}
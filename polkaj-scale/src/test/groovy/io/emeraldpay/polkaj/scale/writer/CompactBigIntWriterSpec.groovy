@@ -62,4 +62,19 @@ class CompactBigIntWriterSpec extends Specification {
         "0700ffffffff"  | "ff_ff_ff_ff_00"
         "07ffffffffff"  | "ff_ff_ff_ff_ff"
     }
+
+    def "Calculates encoded size"() {
+        expect:
+        codec.write(writer, value)
+        writer.encodedSize(value) == buf.size()
+        where:
+        value << [
+                BigInteger.ZERO,
+                BigInteger.valueOf(0x3fff),
+                BigInteger.valueOf(0x40000000),
+                BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.valueOf(2).pow(64),
+                BigInteger.valueOf(2).pow(128).subtract(BigInteger.ONE)
+        ]
+    }
 }
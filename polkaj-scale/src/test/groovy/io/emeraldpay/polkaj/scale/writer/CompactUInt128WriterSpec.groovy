@@ -0,0 +1,29 @@
+package io.emeraldpay.polkaj.scale.writer
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import io.emeraldpay.polkaj.types.UInt128
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class CompactUInt128WriterSpec extends Specification {
+
+    CompactUInt128Writer writer = new CompactUInt128Writer()
+    ByteArrayOutputStream buf = new ByteArrayOutputStream()
+    ScaleCodecWriter codec = new ScaleCodecWriter(buf)
+
+    def "Writes"() {
+        expect:
+        codec.write(writer, UInt128.valueOf(new BigInteger(value)))
+        Hex.encodeHexString(buf.toByteArray()) == encoded
+
+        where:
+        encoded                                 | value
+        "00"                                    | "0"
+        "a8"                                    | "42"
+        "fdff"                                  | "16383"
+        "03ffffffff"                            | "4294967295"
+        "13ffffffffffffffff"                    | "18446744073709551615"
+        "1700000000000000000001"                | "18446744073709551616"
+        "33aabbccddeeff00112233445566778899"    | "204080457442256950375158822971602942890"
+    }
+}
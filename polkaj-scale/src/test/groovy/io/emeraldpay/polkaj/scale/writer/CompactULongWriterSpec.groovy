@@ -59,4 +59,19 @@ class CompactULongWriterSpec extends Specification {
         "13ffffffffffffff7f" | Long.MAX_VALUE
         "13feffffffffffff7f" | Long.MAX_VALUE - 1
     }
+
+    def "Writes compact long"() {
+        when:
+        codec.writeCompact(0x01_00_00_00_00L)
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "070000000001"
+    }
+
+    def "Calculates encoded size"() {
+        expect:
+        codec.write(writer, value)
+        writer.encodedSize(value) == buf.size()
+        where:
+        value << [0L, 0x3fL, 0x40L, 0x3fffL, 0x4000L, 0x3fffffffL, 0x40000000L, 0x01_00_00_00_00L, Long.MAX_VALUE]
+    }
 }
@@ -0,0 +1,27 @@
+package io.emeraldpay.polkaj.scale.writer
+
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class FixedBytesArrayWriterSpec extends Specification {
+
+    FixedBytesArrayWriter writer = new FixedBytesArrayWriter(2)
+    ByteArrayOutputStream buf = new ByteArrayOutputStream()
+    ScaleCodecWriter codec = new ScaleCodecWriter(buf)
+
+    def "Writes"() {
+        when:
+        codec.write(writer, Hex.decodeHex("010203040506"))
+        def act = buf.toByteArray()
+        then:
+        Hex.encodeHexString(act) == "0c010203040506"
+    }
+
+    def "Fails if length is not a multiple of width"() {
+        when:
+        codec.write(writer, Hex.decodeHex("010203"))
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -1,6 +1,7 @@
 package io.emeraldpay.polkaj.scale.writer
 
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import io.emeraldpay.polkaj.scale.ScaleWriter
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
 
@@ -28,4 +29,30 @@ class ListWriterSpec extends Specification {
         then:
         Hex.encodeHexString(act) == "18040008000f00100017002a00"
     }
+
+    def "Calculates encoded size"() {
+        setup:
+        def writer = new ListWriter(ScaleCodecWriter.UINT16)
+        def value = [4, 8, 15, 16, 23, 42]
+        when:
+        codec.write(writer, value)
+        then:
+        writer.encodedSize(value) == buf.size()
+    }
+
+    def "Unknown encoded size when elements size is unknown"() {
+        setup:
+        def writer = new ListWriter({ wrt, value -> wrt.writeByte(value) } as ScaleWriter)
+        expect:
+        writer.encodedSize([1, 2]) == ScaleWriter.UNKNOWN_SIZE
+    }
+
+    def "Writes list from iterator"() {
+        setup:
+        def writer = new ListWriter(ScaleCodecWriter.UINT16)
+        when:
+        writer.write(codec, [4, 8, 15, 16, 23, 42].iterator())
+        then:
+        Hex.encodeHexString(buf.toByteArray()) == "18040008000f00100017002a00"
+    }
 }
@@ -0,0 +1,92 @@
+package io.emeraldpay.polkaj.scale.writer
+
+import io.emeraldpay.polkaj.scale.ScaleCodecArrayWriter
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import io.emeraldpay.polkaj.scale.ScaleWriter
+import io.emeraldpay.polkaj.scale.reader.ProjectionReader
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class StructWriterSpec extends Specification {
+
+    def "Writes fields and constant bytes"() {
+        setup:
+        def writer = StructWriter.<List>builder()
+                .bytes([5] as byte[])
+                .bytes([0] as byte[])
+                .field(ScaleCodecWriter.COMPACT_UINT, { it[0] as Integer })
+                .field(ScaleCodecWriter.UINT16, { it[1] as Integer })
+                .build()
+        def wrt = new ScaleCodecArrayWriter()
+        when:
+        wrt.write(writer, [1, 0x0102])
+        then:
+        Hex.encodeHexString(wrt.toByteArray()) == "0500" + "04" + "0201"
+        writer.encodedSize([1, 0x0102]) == 5
+    }
+
+    def "Unknown size if a field size is unknown"() {
+        setup:
+        def unknown = new ScaleWriter<Integer>() {
+            @Override
+            void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+                wrt.writeByte(value)
+            }
+        }
+        def writer = StructWriter.<Integer>builder()
+                .field(ScaleCodecWriter.UINT16, { it })
+                .field(unknown, { it })
+                .build()
+        expect:
+        writer.encodedSize(1) == ScaleWriter.UNKNOWN_SIZE
+    }
+
+    def "Unknown size if the total size is too large"() {
+        setup:
+        def large = new ScaleWriter<Integer>() {
+            @Override
+            void write(ScaleCodecWriter wrt, Integer value) throws IOException {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            int encodedSize(Integer value) {
+                return Integer.MAX_VALUE - 1
+            }
+        }
+        def writer = StructWriter.<Integer>builder()
+                .field(large, { it })
+                .field(ScaleCodecWriter.UINT16, { it })
+                .build()
+        expect:
+        writer.encodedSize(1) == ScaleWriter.UNKNOWN_SIZE
+    }
+
+    def "Reads back with projection"() {
+        setup:
+        def writer = StructWriter.<List>builder()
+                .bytes([5, 0] as byte[])
+                .field(ScaleCodecWriter.COMPACT_UINT, { it[0] as Integer })
+                .field(ScaleCodecWriter.UINT16, { it[1] as Integer })
+                .build()
+        def inner = ProjectionReader.builder()
+                .skip(2)
+                .field(ScaleCodecReader.COMPACT_UINT)
+                .field(ScaleCodecReader.UINT16)
+                .build { values -> values as List }
+        def outer = ProjectionReader.builder()
+                .skip(inner)
+                .field(ScaleCodecReader.UBYTE)
+                .build { values -> values[0] }
+        def wrt = new ScaleCodecArrayWriter()
+        wrt.write(writer, [100, 7])
+        wrt.writeByte(9)
+        when:
+        def act = new ScaleCodecReader(wrt.toByteArray()).read(inner)
+        def last = new ScaleCodecReader(wrt.toByteArray()).read(outer)
+        then:
+        act == [100, 7]
+        last == 9
+    }
+}
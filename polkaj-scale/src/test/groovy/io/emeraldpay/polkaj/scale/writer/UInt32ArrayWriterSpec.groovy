@@ -0,0 +1,42 @@
+package io.emeraldpay.polkaj.scale.writer
+
+import io.emeraldpay.polkaj.scale.ScaleCodecReader
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class UInt32ArrayWriterSpec extends Specification {
+
+    UInt32ArrayWriter writer = new UInt32ArrayWriter()
+    ByteArrayOutputStream buf = new ByteArrayOutputStream()
+    ScaleCodecWriter codec = new ScaleCodecWriter(buf)
+
+    def "Writes"() {
+        when:
+        codec.write(writer, [1, 16777215, -1] as int[])
+        def act = buf.toByteArray()
+        then:
+        Hex.encodeHexString(act) == "0c01000000ffffff00ffffffff"
+    }
+
+    def "Writes empty"() {
+        when:
+        codec.write(writer, new int[0])
+        def act = buf.toByteArray()
+        then:
+        Hex.encodeHexString(act) == "00"
+    }
+
+    def "Writes array larger than a chunk"() {
+        setup:
+        def value = (0..<600).collect { it * 0x01010101 } as int[]
+        when:
+        codec.write(writer, value)
+        def act = buf.toByteArray()
+        def reader = new ScaleCodecReader(act)
+        then:
+        act.length == writer.encodedSize(value)
+        reader.readCompactInt() == 600
+        (0..<600).every { reader.readUint32() == ((it * 0x01010101) & 0xffffffffL) }
+    }
+}
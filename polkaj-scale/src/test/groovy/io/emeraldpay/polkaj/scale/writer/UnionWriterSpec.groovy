@@ -33,4 +33,16 @@ class UnionWriterSpec extends Specification {
         then:
         Hex.encodeHexString(act) == "0101"
     }
+
+    def "Fails for unknown index"() {
+        setup:
+        UnionWriter<Object> writer = new UnionWriter<>(
+                new UByteWriter(), new BoolWriter()
+        )
+        when:
+        codec.write(writer, new UnionValue<>(2, true))
+        then:
+        thrown(IndexOutOfBoundsException)
+        buf.size() == 0
+    }
 }
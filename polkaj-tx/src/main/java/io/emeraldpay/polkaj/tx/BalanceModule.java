@@ -1,12 +1,11 @@
 package io.emeraldpay.polkaj.tx;
 
-import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleExtract;
 import io.emeraldpay.polkaj.scaletypes.*;
 import io.emeraldpay.polkaj.types.Address;
 import io.emeraldpay.polkaj.types.ByteData;
 import io.emeraldpay.polkaj.types.DotAmount;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 
@@ -54,10 +53,12 @@ public class BalanceModule {
 
         @Override
         public ByteData encodeRequest() throws IOException {
-            ByteArrayOutputStream buf = new ByteArrayOutputStream();
-            ScaleCodecWriter writer = new ScaleCodecWriter(buf);
-            writer.write(CODEC, extrinsic);
-            return new ByteData(buf.toByteArray());
+            return ByteData.wrap(ScaleExtract.write(CODEC, extrinsic));
+        }
+
+        @Override
+        public String encodeRequestHex() throws IOException {
+            return ScaleExtract.writeHex(CODEC, extrinsic);
         }
 
         @Override
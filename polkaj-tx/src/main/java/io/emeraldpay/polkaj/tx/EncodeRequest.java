@@ -8,4 +8,14 @@ public interface EncodeRequest {
 
     ByteData encodeRequest() throws IOException;
 
+    /**
+     * Encode the request to a <code>0x</code> prefixed hex string, as passed to RPC, ex. to <code>author_submitExtrinsic</code>
+     *
+     * @return encoded request as hex
+     * @throws IOException if failed to encode
+     */
+    default String encodeRequestHex() throws IOException {
+        return encodeRequest().toString();
+    }
+
 }
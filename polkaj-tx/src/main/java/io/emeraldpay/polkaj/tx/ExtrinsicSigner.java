@@ -1,13 +1,12 @@
 package io.emeraldpay.polkaj.tx;
 
 import io.emeraldpay.polkaj.scale.ScaleCodecWriter;
+import io.emeraldpay.polkaj.scale.ScaleExtract;
 import io.emeraldpay.polkaj.scale.ScaleWriter;
 import io.emeraldpay.polkaj.scaletypes.EraWriter;
 import io.emeraldpay.polkaj.scaletypes.ExtrinsicCall;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigInteger;
 
 /**
  * Extrinsic signer and signature verifier. Created with provided SCALE writer for the call type it support, which is
@@ -42,13 +41,12 @@ public class ExtrinsicSigner<CALL extends ExtrinsicCall> {
     }
 
     public byte[] getPayload(ExtrinsicContext ctx, CALL call, boolean asList) throws SignException {
-        ByteArrayOutputStream result = new ByteArrayOutputStream();
-        try (ScaleCodecWriter writer = new ScaleCodecWriter(result)) {
-            writer.write(asList ? codecAsList : codec, new SignaturePayload<>(ctx, call));
+        byte[] bytes;
+        try {
+            bytes = ScaleExtract.write(asList ? codecAsList : codec, new SignaturePayload<>(ctx, call));
         } catch (IOException e) {
             throw new SignException("Failed to encode signature payload", e);
         }
-        byte[] bytes = result.toByteArray();
         if (bytes.length > 256) {
             return Hashing.blake2(bytes);
         } else {
@@ -80,39 +78,81 @@ public class ExtrinsicSigner<CALL extends ExtrinsicCall> {
 
         private final ScaleWriter<CALL> callScaleWriter;
         private final boolean callAsList;
+        // true if a subclass provides its own encoding of the call
+        private final boolean customEncodeCall;
 
         public SignaturePayloadWriter(ScaleWriter<CALL> callScaleWriter, boolean callAsList) {
             this.callScaleWriter = callScaleWriter;
             this.callAsList = callAsList;
+            this.customEncodeCall = overridesEncodeCall(getClass());
         }
 
+        /**
+         * Encode the call, which is written as a byte array when <code>callAsList</code> is set. By default the call is
+         * encoded directly into the output, but if a subclass overrides the method it's used instead.
+         *
+         * @param call call to encode
+         * @return encoded call
+         * @throws IOException if failed to encode
+         */
         protected byte[] encodeCall(CALL call) throws IOException {
-            ByteArrayOutputStream callBuffer = new ByteArrayOutputStream();
-            ScaleCodecWriter callWriter = new ScaleCodecWriter(callBuffer);
-            callWriter.write(callScaleWriter, call);
-            callWriter.close();
-            return callBuffer.toByteArray();
+            return ScaleExtract.write(callScaleWriter, call);
+        }
+
+        private static boolean overridesEncodeCall(Class<?> clazz) {
+            for (Class<?> c = clazz; c != SignaturePayloadWriter.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("encodeCall", ExtrinsicCall.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // not declared by this class, check the parent
+                }
+            }
+            return false;
         }
 
         @Override
         public void write(ScaleCodecWriter wrt, SignaturePayload<CALL> signPayload) throws IOException {
             ExtrinsicContext context = signPayload.getContext();
-            if (callAsList) {
+            if (callAsList && customEncodeCall) {
                 wrt.writeAsList(encodeCall(signPayload.getCall()));
+            } else if (callAsList) {
+                // encoded directly if the writer knows the size of the call, otherwise through a temporary buffer
+                wrt.writeAsList(callScaleWriter, signPayload.getCall());
             } else {
                 wrt.write(callScaleWriter, signPayload.getCall());
             }
             wrt.write(ERA_WRITER, context.getEra().toInteger());
-            wrt.write(ScaleCodecWriter.COMPACT_BIGINT, BigInteger.valueOf(context.getNonce()));
+            wrt.writeLong(ScaleCodecWriter.COMPACT_ULONG, context.getNonce());
             wrt.write(ScaleCodecWriter.COMPACT_BIGINT, context.getTip().getValue());
             wrt.writeUint32(context.getRuntimeVersion());
             wrt.writeUint32(context.getTxVersion());
-            wrt.writeUint256(context.getGenesis().getBytes());
+            wrt.writeBytes(context.getGenesis());
             if (context.getEra().isImmortal()) {
-                wrt.writeUint256(context.getGenesis().getBytes());
+                wrt.writeBytes(context.getGenesis());
             } else {
-                wrt.writeUint256(context.getEraBlockHash().getBytes());
+                wrt.writeBytes(context.getEraBlockHash());
+            }
+        }
+
+        @Override
+        public int encodedSize(SignaturePayload<CALL> signPayload) {
+            ExtrinsicContext context = signPayload.getContext();
+            if (callAsList && customEncodeCall) {
+                return UNKNOWN_SIZE;
+            }
+            int call = callScaleWriter.encodedSize(signPayload.getCall());
+            if (call < 0) {
+                return UNKNOWN_SIZE;
+            }
+            if (callAsList) {
+                call += ScaleCodecWriter.COMPACT_UINT.encodedSize(call);
             }
+            return call
+                    + ERA_WRITER.encodedSize(context.getEra().toInteger())
+                    + ScaleCodecWriter.COMPACT_ULONG.encodedSize(context.getNonce())
+                    + ScaleCodecWriter.COMPACT_BIGINT.encodedSize(context.getTip().getValue())
+                    + 4 + 4 + 32 + 32;
         }
     }
 }
@@ -0,0 +1,138 @@
+package io.emeraldpay.polkaj.tx
+
+import io.emeraldpay.polkaj.scale.ScaleCodecArrayWriter
+import io.emeraldpay.polkaj.scale.ScaleCodecWriter
+import io.emeraldpay.polkaj.scale.ScaleExtract
+import io.emeraldpay.polkaj.scaletypes.BalanceTransfer
+import io.emeraldpay.polkaj.scaletypes.BalanceTransferWriter
+import io.emeraldpay.polkaj.scaletypes.Extrinsic
+import io.emeraldpay.polkaj.scaletypes.ExtrinsicCall
+import io.emeraldpay.polkaj.scaletypes.ExtrinsicWriter
+import io.emeraldpay.polkaj.scaletypes.Transfer
+import io.emeraldpay.polkaj.ss58.SS58Type
+import io.emeraldpay.polkaj.types.Address
+import io.emeraldpay.polkaj.types.DotAmount
+import io.emeraldpay.polkaj.types.Hash256
+import io.emeraldpay.polkaj.types.Hash512
+import org.apache.commons.codec.binary.Hex
+import spock.lang.Specification
+
+class ExtrinsicSignerSpec extends Specification {
+
+    static Address destination = new Address(SS58Type.Network.SUBSTRATE, Hex.decodeHex("f8c2c616e5d5d805ae14f810da895ed9fe98511c201dc4d4719624a41fb9772c"))
+    static ExtrinsicContext context = ExtrinsicContext.newBuilder()
+            .genesis(Hash256.from("0xb0a8d493285c2df73290dfb7e61f870f17b41801197a149ca93654499ea3dafe"))
+            .nonce(5)
+            .build()
+
+    def "Encodes call directly without overridden encodeCall"() {
+        setup:
+        def call = new Transfer(DotAmount.fromPlancks(1000), destination)
+        def writer = new ExtrinsicSigner.SignaturePayloadWriter<BalanceTransfer>(new BalanceTransferWriter(), true)
+        def payload = new ExtrinsicSigner.SignaturePayload<BalanceTransfer>(context, call)
+        when:
+        def act = ScaleExtract.write(writer, payload)
+        def callBytes = ScaleExtract.write(new BalanceTransferWriter(), call)
+        then:
+        Hex.encodeHexString(act).startsWith(Hex.encodeHexString([callBytes.length << 2] as byte[]) + Hex.encodeHexString(callBytes))
+        writer.encodedSize(payload) == act.length
+    }
+
+    def "Uses overridden encodeCall"() {
+        setup:
+        def payload = new ExtrinsicSigner.SignaturePayload<BalanceTransfer>(context, new Transfer(DotAmount.fromPlancks(1000), destination))
+        expect:
+        def act = ScaleExtract.write(writer, payload)
+        Hex.encodeHexString(act).startsWith("0c010203")
+        writer.encodedSize(payload) == ScaleCodecWriter.UNKNOWN_SIZE
+        where:
+        writer << [
+                new CustomCallWriter(),
+                new GenericCallWriter<BalanceTransfer>(),
+                new InheritedCallWriter()
+        ]
+    }
+
+    def "Extrinsic size matches encoded length"() {
+        setup:
+        def writer = new ExtrinsicWriter<BalanceTransfer>(new BalanceTransferWriter())
+        def tx = new Extrinsic.TransactionInfo()
+        tx.setSender(destination)
+        tx.setSignature(new Extrinsic.SR25519Signature(Hash512.wrap(new byte[64])))
+        tx.setNonce(nonce)
+        def extrinsic = new Extrinsic<BalanceTransfer>()
+        extrinsic.setTx(tx)
+        extrinsic.setCall(new Transfer(DotAmount.fromPlancks(amount), destination))
+        when:
+        def act = ScaleExtract.write(writer, extrinsic)
+        then:
+        writer.encodedSize(extrinsic) == act.length
+        where:
+        nonce               | amount
+        0L                  | 0
+        64L                 | 1000
+        0x4000L             | 1_000_000_000_000L
+        1L << 40            | Long.MAX_VALUE
+    }
+
+    def "Fails on call with wrong size"() {
+        setup:
+        def writer = new ExtrinsicWriter<BalanceTransfer>(new BalanceTransferWriter())
+        def tx = new Extrinsic.TransactionInfo()
+        tx.setSender(destination)
+        tx.setSignature(new Extrinsic.SR25519Signature(Hash512.wrap(new byte[64])))
+        tx.setNonce(1L)
+        def extrinsic = new Extrinsic<BalanceTransfer>()
+        extrinsic.setTx(tx)
+        extrinsic.setCall(new MemoTransfer(DotAmount.fromPlancks(1000), destination))
+        when:
+        new ScaleCodecArrayWriter().write(writer, extrinsic)
+        then:
+        thrown(IllegalStateException)
+    }
+
+    static class CustomCallWriter extends ExtrinsicSigner.SignaturePayloadWriter<BalanceTransfer> {
+        CustomCallWriter() {
+            super(new BalanceTransferWriter(), true)
+        }
+
+        @Override
+        protected byte[] encodeCall(BalanceTransfer call) throws IOException {
+            return [1, 2, 3] as byte[]
+        }
+    }
+
+    static class GenericCallWriter<C extends ExtrinsicCall> extends ExtrinsicSigner.SignaturePayloadWriter<C> {
+        GenericCallWriter() {
+            super(new UnsupportedCallWriter<C>(), true)
+        }
+
+        @Override
+        protected byte[] encodeCall(C call) throws IOException {
+            return [1, 2, 3] as byte[]
+        }
+    }
+
+    static class InheritedCallWriter extends CustomCallWriter {
+    }
+
+    static class UnsupportedCallWriter<C extends ExtrinsicCall> implements io.emeraldpay.polkaj.scale.ScaleWriter<C> {
+        @Override
+        void write(ScaleCodecWriter wrt, C value) throws IOException {
+            throw new UnsupportedOperationException()
+        }
+    }
+
+    // writes an extra byte, but keeps the size of the parent
+    static class MemoTransfer extends Transfer {
+        MemoTransfer(DotAmount balance, Address destination) {
+            super(balance, destination)
+        }
+
+        @Override
+        void internalWrite(ScaleCodecWriter wrt) throws IOException {
+            super.internalWrite(wrt)
+            wrt.writeByte(0)
+        }
+    }
+}